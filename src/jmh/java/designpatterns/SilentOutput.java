@@ -0,0 +1,30 @@
+package designpatterns;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/*
+Örnek sınıfların çoğu her çağrıda System.out'a yazar. Benchmark sırasında konsol
+maliyeti ölçümü bastırmasın diye çıktı boş bir akışa yönlendirilir.
+ */
+
+public final class SilentOutput {
+    private static final PrintStream ORIGINAL = System.out;
+    private static final PrintStream NULL = new PrintStream(new OutputStream() {
+        @Override
+        public void write(int b) { }
+
+        @Override
+        public void write(byte[] b, int off, int len) { }
+    });
+
+    private SilentOutput() { }
+
+    public static void mute() {
+        System.setOut(NULL);
+    }
+
+    public static void restore() {
+        System.setOut(ORIGINAL);
+    }
+}
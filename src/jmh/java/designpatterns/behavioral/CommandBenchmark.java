@@ -0,0 +1,59 @@
+package designpatterns.behavioral;
+
+import designpatterns.SilentOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Broker.placeOrders: sıraya alınmış siparişlerin toplu uygulanması.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandBenchmark {
+
+    @Param({"10", "100"})
+    int orders;
+
+    Command.Broker broker;
+    Command.Order[] pending;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SilentOutput.mute();
+        Command command = new Command();
+        broker = command.new Broker();
+        pending = new Command.Order[orders];
+        for (int i = 0; i < orders; i++) {
+            pending[i] = i % 2 == 0 ? command.new BuyOrder("ABC", i) : command.new SellOrder("ABC", i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SilentOutput.restore();
+    }
+
+    @Benchmark
+    public void placeOrders() {
+        for (Command.Order order : pending) {
+            broker.takeOrder(order);
+        }
+        broker.placeOrders();
+    }
+}
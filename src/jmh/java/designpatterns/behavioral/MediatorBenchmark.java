@@ -0,0 +1,65 @@
+package designpatterns.behavioral;
+
+import designpatterns.SilentOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// MessageDispatcher.dispatch: kayıtlı ve kayıtsız konulara mesaj iletimi.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MediatorBenchmark {
+
+    @Param({"4", "256"})
+    int topics;
+
+    Mediator.MessageDispatcher dispatcher;
+    String[] keys;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SilentOutput.mute();
+        Mediator mediator = new Mediator();
+        dispatcher = mediator.new MessageDispatcher();
+        keys = new String[topics];
+        for (int i = 0; i < topics; i++) {
+            keys[i] = "topic" + i;
+            dispatcher.register(keys[i], mediator.new MessageActor("Actor " + i, dispatcher));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SilentOutput.restore();
+    }
+
+    @Benchmark
+    public void dispatchRegistered() {
+        String topic = keys[next];
+        next = next + 1 == keys.length ? 0 : next + 1;
+        dispatcher.dispatch(topic, "message");
+    }
+
+    @Benchmark
+    public void dispatchUnregistered() {
+        dispatcher.dispatch("missing-topic", "message");
+    }
+}
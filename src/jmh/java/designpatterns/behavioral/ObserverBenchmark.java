@@ -0,0 +1,56 @@
+package designpatterns.behavioral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// NewsAgency.setNews: abone sayısına göre bildirim maliyeti.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObserverBenchmark {
+
+    @Param({"1", "10", "100"})
+    int channels;
+
+    Observer.NewsAgency agency;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        agency = new Observer().new NewsAgency();
+        for (int i = 0; i < channels; i++) {
+            // NewsChannel her haberi listede biriktirir; ölçüm boyunca belleği şişirmemesi için
+            // haberi yalnızca tüketen bir kanal kullanılır.
+            agency.addObserver(new Observer.Channel() {
+                @Override
+                public void update(String news) {
+                    blackhole.consume(news);
+                }
+
+                @Override
+                public void printNews() { }
+            });
+        }
+    }
+
+    @Benchmark
+    public void setNews() {
+        agency.setNews("breaking news");
+    }
+}
@@ -0,0 +1,80 @@
+package designpatterns.creational;
+
+import designpatterns.SilentOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Pizza başına ayrılan bellek ve gecikme: malzeme listesi, tür çözümleme, tekil ve toplu sipariş. Bellek için -prof gc ile çalıştırın.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AbstractFactoryBenchmark {
+
+    @Param({"standard", "mexican", "turkish"})
+    String topping;
+
+    ToppingFactory toppingFactory;
+    List<PizzaOrder> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SilentOutput.mute();
+        toppingFactory = ToppingFactoryFactory.getToppingFactory(topping);
+        String[] types = {"cheese", "pepperoni", "veggie"};
+        orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(new PizzaOrder(types[i % types.length], topping));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SilentOutput.restore();
+    }
+
+    @Benchmark
+    public List<Ingredient> getIngredients() {
+        return toppingFactory.getIngredients();
+    }
+
+    @Benchmark
+    public Pizza getPizza() {
+        return PizzaFactory.getPizza("cheese", toppingFactory);
+    }
+
+    @Benchmark
+    public Pizza resolveAndGetPizza() {
+        return PizzaFactory.getPizza("cheese", ToppingFactoryFactory.getToppingFactory(topping));
+    }
+
+    @Benchmark
+    public Pizza resolvedGetPizza() {
+        return PizzaFactory.getPizza(PizzaType.CHEESE, toppingFactory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<Pizza> getPizzasBatch() {
+        return PizzaFactory.getPizzas(orders);
+    }
+}
@@ -0,0 +1,42 @@
+package designpatterns.creational;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Saniyede üretilen kupon kodu: UUID.randomUUID() ile CouponCodeGenerator, 1 ve 8 thread ile.
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class CouponCodeBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String generator() {
+        return CouponCodeGenerator.nextCode();
+    }
+
+    @Threads(1)
+    public static class Threads1 extends CouponCodeBenchmark { }
+
+    @Threads(8)
+    public static class Threads8 extends CouponCodeBenchmark { }
+}
@@ -0,0 +1,62 @@
+package designpatterns.creational;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Bir çalışanı dışa aktarma: toString() + UTF-8 ile ikili kodlayıcı karşılaştırması.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmployeeCodecBenchmark {
+
+    EmployeeWithBuilder employee;
+    ByteBuffer buffer;
+    ByteBuffer encoded;
+
+    @Setup
+    public void setUp() {
+        employee = new EmployeeWithBuilder.EmployeeBuilder("Muratcan", "Celayir", 30, 123)
+                .setAddress("Hollanda")
+                .setMail("muratcancelayir@gmail.com")
+                .setPhone("2132131")
+                .build();
+        buffer = ByteBuffer.allocate(256);
+        encoded = ByteBuffer.allocate(256);
+        EmployeeCodec.write(employee, encoded);
+        encoded.flip();
+    }
+
+    @Benchmark
+    public byte[] toStringExport() {
+        return employee.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryWrite() {
+        buffer.clear();
+        EmployeeCodec.write(employee, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public EmployeeWithBuilder binaryRead() {
+        encoded.rewind();
+        return EmployeeCodec.read(encoded);
+    }
+}
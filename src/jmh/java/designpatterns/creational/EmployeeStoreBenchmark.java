@@ -0,0 +1,100 @@
+package designpatterns.creational;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+personalId ile tekil okuma: sütunlu EmployeeStore ve HashMap<Integer, EmployeeWithBuilder>.
+Bellek kullanımı EmployeeStoreMain ile ölçülür (1M çalışan, tüm alanlar dolu: HashMap ~215, depo ~105
+bayt/çalışan). Telefon ve e-posta depoda bayt yığınından her okumada yeniden çözülür (storeMail).
+*/
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class EmployeeStoreBenchmark {
+
+    @Param({"10000", "1000000"})
+    int employees;
+
+    Map<Integer, EmployeeWithBuilder> map;
+    EmployeeStore store;
+    int[] lookups;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = new HashMap<>();
+        store = new EmployeeStore();
+        Random random = new Random(42);
+        for (int i = 0; i < employees; i++) {
+            // personalId'ler seyrek ve rastgele dağılır.
+            int personalId = random.nextInt(Integer.MAX_VALUE);
+            EmployeeWithBuilder employee = new EmployeeWithBuilder.EmployeeBuilder("Name" + i % 200, "Surname" + i % 500, 20 + i % 45, personalId)
+                    .setPhone("555" + i)
+                    .setAddress("Street " + i % 1000 + " Istanbul")
+                    .setMail("user" + i + "@mail.com")
+                    .build();
+            map.put(personalId, employee);
+            store.add(employee);
+        }
+        Integer[] ids = map.keySet().toArray(new Integer[0]);
+        lookups = new int[1 << 16];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = ids[random.nextInt(ids.length)];
+        }
+    }
+
+    private int nextId() {
+        next = (next + 1) & (lookups.length - 1);
+        return lookups[next];
+    }
+
+    @Benchmark
+    public int hashMap() {
+        return map.get(nextId()).getAge();
+    }
+
+    @Benchmark
+    public int store() {
+        return store.get(nextId()).getAge();
+    }
+
+    @Benchmark
+    public String hashMapAddress() {
+        return map.get(nextId()).getAddress();
+    }
+
+    @Benchmark
+    public String storeAddress() {
+        return store.get(nextId()).getAddress();
+    }
+
+    @Benchmark
+    public String hashMapMail() {
+        return map.get(nextId()).getMail();
+    }
+
+    @Benchmark
+    public String storeMail() {
+        return store.get(nextId()).getMail();
+    }
+}
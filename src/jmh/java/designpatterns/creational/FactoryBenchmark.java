@@ -0,0 +1,70 @@
+package designpatterns.creational;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// CouponFactory.getCoupon: kupon oluşturma, kupon kodunun üretilmesi ve kademe tablosunda arama.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FactoryBenchmark {
+
+    // 0: varsayılan iki kademe, aksi halde dosyadan yüklenen kademe sayısı.
+    @Param({"0", "64"})
+    int tiers;
+
+    int points;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (tiers == 0) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < tiers; i++) {
+            lines.add(i * 10 + ";tier" + i + ";I am a tier " + i + " coupon");
+        }
+        Path file = Files.createTempFile("coupon-tiers", ".txt");
+        Files.write(file, lines);
+        CouponFactory.loadTiers(file);
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public Coupon getCoupon() {
+        points = (points + 7) % 1000;
+        return CouponFactory.getCoupon(points);
+    }
+
+    @Benchmark
+    public String getCouponCode() {
+        points = (points + 7) % 1000;
+        return CouponFactory.getCoupon(points).code();
+    }
+
+    @Benchmark
+    public CouponType getCouponType() {
+        points = (points + 7) % 1000;
+        return CouponFactory.getCouponType(points);
+    }
+}
@@ -0,0 +1,75 @@
+package designpatterns.creational;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Multiton.get ile synchronized bir map üzerinden get-or-create karşılaştırması.
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class MultitonBenchmark {
+
+    @Param({"16", "4096"})
+    int tenants;
+
+    String[] keys;
+    Multiton<String, Object> multiton;
+    final Map<String, Object> synchronizedMap = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new String[tenants];
+        multiton = new Multiton<>(key -> new Object());
+        for (int i = 0; i < tenants; i++) {
+            keys[i] = "tenant-" + i;
+            multiton.get(keys[i]);
+            synchronizedGet(keys[i]);
+        }
+    }
+
+    Object synchronizedGet(String key) {
+        synchronized (synchronizedMap) {
+            return synchronizedMap.computeIfAbsent(key, k -> new Object());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int next(int bound) {
+            next = next + 1 == bound ? 0 : next + 1;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Object multiton(Cursor cursor) {
+        return multiton.get(keys[cursor.next(tenants)]);
+    }
+
+    @Benchmark
+    public Object synchronizedMap(Cursor cursor) {
+        return synchronizedGet(keys[cursor.next(tenants)]);
+    }
+}
@@ -0,0 +1,88 @@
+package designpatterns.creational;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+Prototype.clone() ile PrototypeRegistry üzerinden havuzlu ve havuzsuz klonlama. GC etkisi için -prof gc ile çalıştırın.
+DEEP ve COPY_ON_WRITE klonlama modları, klonlayıp yalnızca okuma ve klonlayıp yazma senaryolarında karşılaştırılır.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrototypeBenchmark {
+
+    Prototype original;
+    PrototypeRegistry registry;
+    PrototypeRegistry pooled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        original = new Prototype("Original value 1", "Original value 2");
+        registry = new PrototypeRegistry();
+        registry.register("default", original);
+        pooled = new PrototypeRegistry(64);
+        pooled.register("default", original);
+    }
+
+    @Benchmark
+    public Prototype plainClone() {
+        Prototype clone = original.clone();
+        clone.setField1("Changed value 1");
+        return clone;
+    }
+
+    @Benchmark
+    public Prototype registry() {
+        Prototype clone = registry.get("default");
+        clone.setField1("Changed value 1");
+        return clone;
+    }
+
+    @Benchmark
+    public Prototype registryPooled() {
+        Prototype clone = pooled.get("default");
+        clone.setField1("Changed value 1");
+        pooled.release("default", clone);
+        return clone;
+    }
+
+    @Benchmark
+    public String deepCloneThenRead() {
+        return original.clone(Prototype.CloneMode.DEEP).getField1();
+    }
+
+    @Benchmark
+    public String copyOnWriteCloneThenRead() {
+        return original.clone(Prototype.CloneMode.COPY_ON_WRITE).getField1();
+    }
+
+    @Benchmark
+    public Prototype deepCloneThenWrite() {
+        Prototype clone = original.clone(Prototype.CloneMode.DEEP);
+        clone.setField1("Changed value 1");
+        return clone;
+    }
+
+    @Benchmark
+    public Prototype copyOnWriteCloneThenWrite() {
+        Prototype clone = original.clone(Prototype.CloneMode.COPY_ON_WRITE);
+        clone.setField1("Changed value 1");
+        return clone;
+    }
+}
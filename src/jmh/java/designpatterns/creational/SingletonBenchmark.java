@@ -0,0 +1,53 @@
+package designpatterns.creational;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+Singleton.getInstance() çekişme altında: 1, 4, 16 ve 64 thread ile ölçülür.
+plainFieldRead, karşılaştırma için aynı thread sayısında sıradan bir static final alan okumasıdır;
+ilklendirmeden sonra iki sonucun aynı olması beklenir.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class SingletonBenchmark {
+
+    static final Object PLAIN = new Object();
+
+    @Benchmark
+    public Singleton getInstance() {
+        return Singleton.getInstance();
+    }
+
+    @Benchmark
+    public Object plainFieldRead() {
+        return PLAIN;
+    }
+
+    @Threads(1)
+    public static class Threads1 extends SingletonBenchmark { }
+
+    @Threads(4)
+    public static class Threads4 extends SingletonBenchmark { }
+
+    @Threads(16)
+    public static class Threads16 extends SingletonBenchmark { }
+
+    @Threads(64)
+    public static class Threads64 extends SingletonBenchmark { }
+}
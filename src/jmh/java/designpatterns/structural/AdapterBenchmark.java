@@ -0,0 +1,69 @@
+package designpatterns.structural;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// CachingLegacyUserService isabet yolu ile ConcurrentHashMap<Integer, LegacyUser> karşılaştırması.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AdapterBenchmark {
+
+    @Param({"1024", "65536"})
+    int users;
+
+    Adapter.CachingLegacyUserService cache;
+    final ConcurrentHashMap<Integer, Adapter.LegacyUser> map = new ConcurrentHashMap<>();
+    int[] ids;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Adapter adapter = new Adapter();
+        Adapter.InMemoryLegacyUserService legacy = adapter.new InMemoryLegacyUserService(0);
+        ids = new int[users];
+        for (int i = 0; i < users; i++) {
+            Adapter.LegacyUser user = adapter.new LegacyUser();
+            user.id = i * 7919;
+            legacy.add(user);
+            map.put(user.id, user);
+            ids[i] = user.id;
+        }
+        cache = adapter.new CachingLegacyUserService(legacy, users, 1, 1, TimeUnit.HOURS);
+        for (int id : ids) {
+            cache.getUser(id);  // Önbellek ısıtılır.
+        }
+    }
+
+    private int nextId() {
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return ids[next];
+    }
+
+    @Benchmark
+    public Adapter.LegacyUser cachedGetUser() {
+        return cache.getUser(nextId());
+    }
+
+    @Benchmark
+    public Adapter.LegacyUser concurrentHashMap() {
+        return map.get(nextId());
+    }
+}
@@ -0,0 +1,111 @@
+package designpatterns.structural;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+RegionalDirectorate.getEmployees: önbellekteki toplamın okunması, bir departman değiştikten sonra
+yeniden okunması ve karşılaştırma için tüm alt ağacın her seferinde gezilmesi (walkEmployees).
+*/
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class CompositeBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int departments;
+
+    Composite.Department root;
+    List<Composite.TeamDepartment> teams;
+    int nextTeam;
+    boolean hired;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Composite composite = new Composite();
+        teams = new ArrayList<>();
+        List<Composite.Department> level = new ArrayList<>();
+        for (int i = 0; i < departments; i++) {
+            if (i % 10 == 0) {
+                Composite.TeamDepartment team = composite.new TeamDepartment("Team" + i, "T" + i);
+                teams.add(team);
+                level.add(team);
+            } else {
+                level.add(i % 2 == 0 ? composite.new FinanceDepartment() : composite.new SalesDepartment());
+            }
+        }
+        // Her 10 departman bir bölge müdürlüğü altında toplanır; tek bir kök kalana kadar devam edilir.
+        do {
+            List<Composite.Department> parents = new ArrayList<>();
+            for (int from = 0; from < level.size(); from += 10) {
+                parents.add(composite.new RegionalDirectorate(level.subList(from, Math.min(from + 10, level.size()))));
+            }
+            level = parents;
+        } while (level.size() > 1);
+        root = level.get(0);
+        root.getEmployees();
+    }
+
+    @Benchmark
+    public List<String> getEmployees() {
+        return root.getEmployees();
+    }
+
+    // Bir takımın çalışanı değişir (sırayla işe alım ve ayrılma), ardından kök yeniden okunur.
+    @Benchmark
+    public List<String> changeAndGetEmployees() {
+        Composite.TeamDepartment team = teams.get(nextTeam);
+        if (hired) {
+            team.dismiss("temp");
+            nextTeam = nextTeam + 1 == teams.size() ? 0 : nextTeam + 1;
+        } else {
+            team.hire("temp");
+        }
+        hired = !hired;
+        return root.getEmployees();
+    }
+
+    @Benchmark
+    public int iterateEmployees() {
+        int hash = 0;
+        for (String employee : root.getEmployees()) {
+            hash += employee.hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public List<String> walkEmployees() {
+        List<String> employees = new ArrayList<>();
+        walk(root, employees);
+        return employees;
+    }
+
+    private static void walk(Composite.Department department, List<String> employees) {
+        if (department instanceof Composite.RegionalDirectorate) {
+            for (Composite.Department child : ((Composite.RegionalDirectorate) department).getChildDepartments()) {
+                walk(child, employees);
+            }
+        } else {
+            employees.addAll(department.getEmployees());
+        }
+    }
+}
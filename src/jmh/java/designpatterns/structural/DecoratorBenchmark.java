@@ -0,0 +1,46 @@
+package designpatterns.structural;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// ExtraCoffee.getPrice: dekoratör zinciri üzerinden fiyat hesaplama.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecoratorBenchmark {
+
+    Decorator.Coffee latte;
+    Decorator.Coffee colombian;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Decorator decorator = new Decorator();
+        latte = decorator.new Latte();
+        colombian = decorator.new ColombianCoffee();
+    }
+
+    @Benchmark
+    public Double lattePrice() {
+        return latte.getPrice();
+    }
+
+    @Benchmark
+    public Double colombianPrice() {
+        return colombian.getPrice();
+    }
+}
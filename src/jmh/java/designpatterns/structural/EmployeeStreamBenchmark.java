@@ -0,0 +1,142 @@
+package designpatterns.structural;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+İlk sonuca kadar geçen süre ve tam gezinme: streamEmployees ile önbelleği boş bir kökte
+getEmployees (coldGetEmployees*) ve tüm alt ağacın bir listeye toplanması (walk*).
+Ağaç CompositeBenchmark'taki gibidir: 10'lu gruplar halinde bölge müdürlükleri.
+*/
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class EmployeeStreamBenchmark {
+
+    @Param({"1000", "100000"})
+    int departments;
+
+    Composite.Department root;
+    List<Composite.RegionalDirectorate> directorates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Composite composite = new Composite();
+        directorates = new ArrayList<>();
+        List<Composite.Department> level = new ArrayList<>();
+        for (int i = 0; i < departments; i++) {
+            level.add(composite.new TeamDepartment("Team" + i, "A" + i, "B" + i, "C" + i));
+        }
+        do {
+            List<Composite.Department> parents = new ArrayList<>();
+            for (int from = 0; from < level.size(); from += 10) {
+                Composite.RegionalDirectorate directorate = composite.new RegionalDirectorate(level.subList(from, Math.min(from + 10, level.size())));
+                directorates.add(directorate);
+                parents.add(directorate);
+            }
+            level = parents;
+        } while (level.size() > 1);
+        root = level.get(0);
+    }
+
+    // getEmployees her çağrıda ilk kez hesaplansın diye tüm müdürlüklerin önbelleği silinir.
+    @Setup(Level.Invocation)
+    public void invalidate() {
+        for (Composite.RegionalDirectorate directorate : directorates) {
+            directorate.invalidate();
+        }
+    }
+
+    @Benchmark
+    public String streamFindFirst() {
+        return root.streamEmployees().filter(employee -> employee.startsWith("B")).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public String coldGetEmployeesFirst() {
+        for (String employee : root.getEmployees()) {
+            if (employee.startsWith("B")) {
+                return employee;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String walkFirst() {
+        for (String employee : walk()) {
+            if (employee.startsWith("B")) {
+                return employee;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public List<String> streamLimit() {
+        return root.streamEmployees().limit(100).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int streamSum() {
+        return root.streamEmployees().mapToInt(String::hashCode).sum();
+    }
+
+    @Benchmark
+    public int parallelStreamSum() {
+        return root.streamEmployees().parallel().mapToInt(String::hashCode).sum();
+    }
+
+    @Benchmark
+    public int coldGetEmployeesSum() {
+        int hash = 0;
+        for (String employee : root.getEmployees()) {
+            hash += employee.hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int walkSum() {
+        int hash = 0;
+        for (String employee : walk()) {
+            hash += employee.hashCode();
+        }
+        return hash;
+    }
+
+    private List<String> walk() {
+        List<String> employees = new ArrayList<>();
+        walk(root, employees);
+        return employees;
+    }
+
+    private static void walk(Composite.Department department, List<String> employees) {
+        if (department instanceof Composite.RegionalDirectorate) {
+            for (Composite.Department child : ((Composite.RegionalDirectorate) department).getChildDepartments()) {
+                walk(child, employees);
+            }
+        } else {
+            employees.addAll(department.getEmployees());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package designpatterns.structural;
+
+import designpatterns.SilentOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+Saniyede güncellenen araç sayısı: Fleet.tick() ile araç başına nesne yolu (Vehicle.move).
+objectPerVehicle mevcut yazdıran direksiyonları kullanır (çıktı susturulur); objectPerVehicleSilent
+yalnızca yönü saklayan direksiyonlarla sanal çağrı maliyetini ayrı ölçer.
+*/
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FleetBenchmark {
+    static final int VEHICLES = 200_000;
+
+    Bridge.Vehicle[] vehicles;
+    Bridge.Vehicle[] silentVehicles;
+    int[] directions;
+    int[] speeds;
+    Fleet fleet;
+
+    // Yazdırmadan yönü saklayan direksiyon; nesne yolunun çıktı olmadan maliyeti için.
+    static final class RecordingWheel implements Bridge.SteeringWheel {
+        final int scale;
+        int direction;
+
+        RecordingWheel(int scale) {
+            this.scale = scale;
+        }
+
+        @Override
+        public void setDirection(int direction) {
+            this.direction = direction * scale;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SilentOutput.mute();
+        Bridge bridge = new Bridge();
+        vehicles = new Bridge.Vehicle[VEHICLES];
+        silentVehicles = new Bridge.Vehicle[VEHICLES];
+        directions = new int[VEHICLES];
+        speeds = new int[VEHICLES];
+        fleet = new Fleet();
+        for (int i = 0; i < VEHICLES; i++) {
+            boolean boat = i % 4 == 0;
+            vehicles[i] = boat ? bridge.new Boat(bridge.new BoatSteeringWheel()) : bridge.new Car(bridge.new CarSteeringWheel());
+            silentVehicles[i] = boat ? bridge.new Boat(new RecordingWheel(10)) : bridge.new Car(new RecordingWheel(1));
+            directions[i] = i % 360;
+            speeds[i] = 10 + i % 90;
+            int vehicle = boat ? fleet.addBoat() : fleet.addCar();
+            fleet.move(vehicle, directions[i], speeds[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SilentOutput.restore();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VEHICLES)
+    public void objectPerVehicle() {
+        for (int i = 0; i < VEHICLES; i++) {
+            vehicles[i].move(directions[i], speeds[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VEHICLES)
+    public void objectPerVehicleSilent() {
+        for (int i = 0; i < VEHICLES; i++) {
+            silentVehicles[i].move(directions[i], speeds[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VEHICLES)
+    public Fleet fleetTick() {
+        fleet.tick();
+        return fleet;
+    }
+}
@@ -0,0 +1,61 @@
+package designpatterns.structural;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// ParticleFactory.getParticle: paylaşılan Skin/Theme çiftlerinin aranması.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlyweightBenchmark {
+
+    @Param({"4", "64"})
+    int variants;
+
+    Flyweight.ParticleFactory factory;
+    Flyweight.Skin[] skins;
+    Flyweight.Theme[] themes;
+    Flyweight.Coordinate coordinate;
+    Flyweight.Vector vector;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Flyweight flyweight = new Flyweight();
+        factory = flyweight.new ParticleFactory();
+        factory.particles = new ArrayList<>();
+        skins = new Flyweight.Skin[variants];
+        themes = new Flyweight.Theme[variants];
+        for (int i = 0; i < variants; i++) {
+            skins[i] = flyweight.new Skin();
+            themes[i] = flyweight.new Theme();
+            factory.getParticle(skins[i], themes[i], null, null);  // Havuz doldurulur.
+        }
+        coordinate = flyweight.new Coordinate();
+        vector = flyweight.new Vector();
+    }
+
+    @Benchmark
+    public Flyweight.MovingParticle getParticle() {
+        int i = next;
+        next = next + 1 == variants ? 0 : next + 1;
+        return factory.getParticle(skins[i], themes[i], coordinate, vector);
+    }
+}
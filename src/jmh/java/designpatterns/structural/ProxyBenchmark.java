@@ -0,0 +1,60 @@
+package designpatterns.structural;
+
+import designpatterns.SilentOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// CachedYoutubeService.getVideo: önbellekte bulunan URL'ler için proxy maliyeti.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProxyBenchmark {
+
+    @Param({"16", "1024"})
+    int urls;
+
+    Proxy.YoutubeService service;
+    String[] keys;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SilentOutput.mute();
+        Proxy proxy = new Proxy();
+        service = proxy.new CachedYoutubeService(proxy.new YoutubeServiceImp());
+        keys = new String[urls];
+        for (int i = 0; i < urls; i++) {
+            keys[i] = "https://youtube.com/video" + i;
+            service.getVideo(keys[i]);  // Önbellek ısıtılır.
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SilentOutput.restore();
+    }
+
+    @Benchmark
+    public Proxy.Video getVideoCached() {
+        String url = keys[next];
+        next = next + 1 == keys.length ? 0 : next + 1;
+        return service.getVideo(url);
+    }
+}
@@ -0,0 +1,103 @@
+package designpatterns.structural;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/*
+ReportCollector ile ~100K yaprak departmanlı sentetik ağaçlarda rapor toplama.
+    wide: kök -> 1000 müdürlük -> her birinde 100 departman
+    deep: 17 seviyeli ikili ağaç (131072 departman)
+cutoff = Integer.MAX_VALUE tüm ağacı tek görevde, sıralı toplar. parallelism havuzun thread sayısıdır;
+1 iken ReportCollector hiç görev oluşturmaz.
+*/
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ReportCollectorBenchmark {
+
+    @Param({"wide", "deep"})
+    String shape;
+
+    @Param({"1024", "2147483647"})
+    int cutoff;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    Composite composite;
+    Composite.Department root;
+    ForkJoinPool pool;
+    ReportCollector collector;
+    int leaves;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        composite = new Composite();
+        if (shape.equals("wide")) {
+            List<Composite.Department> regions = new ArrayList<>();
+            for (int r = 0; r < 1000; r++) {
+                List<Composite.Department> teams = new ArrayList<>();
+                for (int t = 0; t < 100; t++) {
+                    teams.add(team());
+                }
+                regions.add(composite.new RegionalDirectorate(teams));
+            }
+            root = composite.new RegionalDirectorate(regions);
+        } else {
+            root = binary(17);
+        }
+        pool = new ForkJoinPool(parallelism);
+        collector = new ReportCollector(pool, cutoff, ReportCollector.ConflictRule.KEEP_FIRST);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private Composite.Department binary(int depth) {
+        if (depth == 0) {
+            return team();
+        }
+        List<Composite.Department> children = new ArrayList<>();
+        children.add(binary(depth - 1));
+        children.add(binary(depth - 1));
+        return composite.new RegionalDirectorate(children);
+    }
+
+    // Her departmanın iki kendine özgü raporu ve herkesle çakışan bir "summary" raporu vardır.
+    private Composite.Department team() {
+        int id = leaves++;
+        Composite.TeamDepartment team = composite.new TeamDepartment("Team" + id);
+        team.report("team-" + id + "/sales", "sales " + id);
+        team.report("team-" + id + "/budget", "budget " + id);
+        team.report("summary", "summary " + id);
+        return team;
+    }
+
+    @Benchmark
+    public Map<String, String> collect() {
+        return collector.collect(root);
+    }
+}
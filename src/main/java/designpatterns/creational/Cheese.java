@@ -0,0 +1,3 @@
+package designpatterns.creational;
+
+interface Cheese extends Ingredient{ }
@@ -0,0 +1,24 @@
+package designpatterns.creational;
+
+import java.util.List;
+
+class CheesePizza extends Pizza{
+
+    public CheesePizza(List<Ingredient> extraIngredients) {
+        super(extraIngredients);
+    }
+
+    public CheesePizza() {
+    }
+
+    @Override
+    public void bake() {
+        if(extraIngredients != null){
+            for (Ingredient ingredient : extraIngredients) {
+                System.out.println(ingredient.name());
+            }
+        }
+
+        System.out.println("I am a cheese pizza");
+    }
+}
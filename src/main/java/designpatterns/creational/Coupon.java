@@ -0,0 +1,7 @@
+package designpatterns.creational;
+
+// Coupon arayüzü, farklı türde kuponların sahip olması gereken metotları tanımlar.
+interface Coupon {
+    String code();  // Kupon kodu döndürür.
+    String message();  // Kuponun mesajını döndürür.
+}
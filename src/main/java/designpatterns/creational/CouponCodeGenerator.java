@@ -0,0 +1,76 @@
+package designpatterns.creational;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/*
+Kupon kodu üreteci. UUID.randomUUID() her çağrıda paylaşılan SecureRandom üzerinde çekişmeye
+girer ve 36 karakterlik bir String üretir. Bu sınıf her thread için ayrı bir SecureRandom tutar,
+rastgele baytları toplu (batch) olarak çeker ve 80 bitlik rastgele değeri 16 karakterlik
+Crockford base32 koda çevirir (I, L, O, U harfleri karışıklık olmasın diye kullanılmaz).
+
+80 bit ile 10 milyar kodda bile çakışma olasılığı yaklaşık 4e-5'tir; kodlar kriptografik
+rastgelelikle üretildiği için tahmin edilemez.
+*/
+
+final class CouponCodeGenerator {
+    static final int CODE_LENGTH = 16;
+    private static final int BYTES_PER_CODE = 10;
+    private static final int BATCH_SIZE = 256;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final ThreadLocal<Batch> BATCH = ThreadLocal.withInitial(Batch::new);
+
+    private CouponCodeGenerator() { }
+
+    static String nextCode() {
+        return BATCH.get().nextCode();
+    }
+
+    // Verilen dizinin tamamını yeni kodlarla doldurur.
+    static void nextCodes(String[] codes) {
+        Batch batch = BATCH.get();
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = batch.nextCode();
+        }
+    }
+
+    private static final class Batch {
+        private final SecureRandom random = newRandom();
+        private final byte[] bytes = new byte[BATCH_SIZE * BYTES_PER_CODE];
+        private final char[] chars = new char[CODE_LENGTH];
+        private int position = bytes.length;
+
+        String nextCode() {
+            if (position == bytes.length) {
+                random.nextBytes(bytes);
+                position = 0;
+            }
+            // 10 bayt = 80 bit, iki parça halinde 5'er bitlik 16 karaktere bölünür.
+            long high = 0;
+            for (int i = 0; i < 5; i++) {
+                high = (high << 8) | (bytes[position++] & 0xFF);
+            }
+            long low = 0;
+            for (int i = 0; i < 5; i++) {
+                low = (low << 8) | (bytes[position++] & 0xFF);
+            }
+            for (int i = 7; i >= 0; i--) {
+                chars[i] = ALPHABET[(int) (high & 31)];
+                high >>>= 5;
+                chars[i + 8] = ALPHABET[(int) (low & 31)];
+                low >>>= 5;
+            }
+            return new String(chars);
+        }
+
+        // Thread'e özel örnek, paylaşılan NativePRNG kilidine girmez; tohumu sistemden alır.
+        private static SecureRandom newRandom() {
+            try {
+                return SecureRandom.getInstance("SHA1PRNG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package designpatterns.creational;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// CouponFactory sınıfı, kuponları oluşturmak için kullanılan factory sınıfıdır.
+class CouponFactory {
+    // Puan kademeleri tablosu. Yeniden yükleme yeni bir tabloyu atomik olarak yerine koyar,
+    // getCoupon çağıranlar hiçbir zaman beklemez ve her zaman tutarlı bir tablo görür.
+    private static volatile CouponTiers tiers = CouponTiers.defaults();
+
+    // Bu metot, verilen puan değerine göre uygun kuponu oluşturur.
+    // Varsayılan tabloda 50'den küçük puanlar gıda, 50 ve üzeri elektronik kuponu alır.
+    public static Coupon getCoupon(int points) {
+        return tiers.typeFor(points).newCoupon();
+    }
+
+    // Verilen puan değerine karşılık gelen paylaşılan kupon türünü döndürür, yeni nesne oluşturmaz.
+    static CouponType getCouponType(int points) {
+        return tiers.typeFor(points);
+    }
+
+    // Kademeleri dosyadan okur. Dosya hatalıysa mevcut tablo değişmeden kalır.
+    static void loadTiers(Path file) throws IOException {
+        tiers = CouponTiers.load(file);
+    }
+}
@@ -0,0 +1,279 @@
+package designpatterns.creational;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/*
+Kampanyalar için toplu kupon üretimi. Puan bakiyeleri parçalar (chunk) halinde okunur, her parçanın
+kupon türü ve kodu paralel olarak üretilir, tekrar eden kodlar kompakt bir Bloom filtresiyle
+reddedilip yeniden üretilir ve kayıtlar sabit genişlikte bir memory-mapped dosyaya yazılır.
+
+Dosya düzeni:
+    header (16 bayt): MAGIC (int), RECORD_SIZE (int), commit edilmiş kayıt sayısı (long)
+    kayıtlar (48 bayt): kod (16) ' ' tür (18, sağdan boşlukla doldurulur) ' ' puan (11, sağa dayalı) '\n'
+
+Her parça önce diske zorlanır (force), ardından header'daki kayıt sayısı güncellenir. Çökme sonrası
+aynı dosya ve aynı girdi ile tekrar başlatıldığında son commit edilen kayıttan devam edilir;
+yarım kalan parça üzerine yazılır ve Bloom filtresi commit edilmiş kodlardan yeniden kurulur.
+
+Bloom filtresi expectedCoupons için boyutlanır; bu sayıyı aşan bir parça yazılmadan reddedilir,
+çünkü dolu bir filtrede yanlış pozitif oranı 1'e yaklaşır ve kod yeniden üretimi bitmez. Tür adları
+en fazla 18 karakterlik yazdırılabilir ASCII olmalıdır; uymayan bir tür, parça yazılmadan reddedilir.
+*/
+
+final class CouponIssuer implements Closeable {
+    static final int RECORD_SIZE = 48;
+    static final int HEADER_SIZE = 16;
+    private static final int MAGIC = 0x43504e31;  // "CPN1"
+    private static final int TYPE_WIDTH = 18;
+    private static final int POINTS_WIDTH = 11;
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    // Kapasite içinde bir kodun bu kadar üst üste reddedilmesi neredeyse imkânsızdır; olursa filtre bozuktur.
+    private static final int MAX_REGENERATIONS = 64;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final BloomFilter filter;
+    private final int chunkSize;
+    private final long capacity;
+    private long committed;
+    private long duplicatesRejected;
+
+    CouponIssuer(Path output, long expectedCoupons) throws IOException {
+        this(output, expectedCoupons, DEFAULT_CHUNK_SIZE);
+    }
+
+    CouponIssuer(Path output, long expectedCoupons, int chunkSize) throws IOException {
+        this.chunkSize = chunkSize;
+        this.channel = FileChannel.open(output,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean fresh = channel.size() < HEADER_SIZE;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (fresh) {
+            header.putInt(0, MAGIC).putInt(4, RECORD_SIZE).putLong(8, 0);
+            header.force();
+        } else if (header.getInt(0) != MAGIC || header.getInt(4) != RECORD_SIZE) {
+            channel.close();
+            throw new IOException("Not a coupon issue file: " + output);
+        }
+        this.committed = header.getLong(8);
+        this.capacity = Math.max(expectedCoupons, committed);
+        this.filter = new BloomFilter(capacity);
+        rebuildFilter();
+    }
+
+    long committed() {
+        return committed;
+    }
+
+    long duplicatesRejected() {
+        return duplicatesRejected;
+    }
+
+    /*
+    Puan bakiyelerinden kupon üretir ve dosyaya yazar. Daha önce commit edilmiş kayıt sayısı kadar
+    bakiye atlanır, bu yüzden yeniden başlatmada aynı girdi akışı verilmelidir.
+    Bu çalıştırmada üretilen kupon sayısını döndürür. Kapasite aşılırsa veya bir tür adı kayda
+    sığmazsa IllegalStateException / IllegalArgumentException fırlatır; o ana kadar commit edilen
+    parçalar dosyada kalır.
+    */
+    long issue(IntStream pointBalances) throws IOException {
+        PrimitiveIterator.OfInt balances = pointBalances.skip(committed).iterator();
+        int[] points = new int[chunkSize];
+        CouponType[] types = new CouponType[chunkSize];
+        String[] codes = new String[chunkSize];
+        byte[] records = new byte[chunkSize * RECORD_SIZE];
+        long issued = 0;
+
+        while (balances.hasNext()) {
+            int count = 0;
+            while (count < chunkSize && balances.hasNext()) {
+                points[count++] = balances.nextInt();
+            }
+            int size = count;
+            if (committed + size > capacity) {
+                throw new IllegalStateException(String.format(
+                        "Issuing %d more coupons would exceed the capacity of %d (%d committed)", size, capacity, committed));
+            }
+
+            // Tür arama ve kod üretimi paralel; CouponCodeGenerator thread başına durum tutar.
+            IntStream.range(0, size).parallel().forEach(i -> {
+                types[i] = CouponFactory.getCouponType(points[i]);
+                codes[i] = CouponCodeGenerator.nextCode();
+            });
+            CouponType checked = null;
+            for (int i = 0; i < size; i++) {
+                if (types[i] != checked) {
+                    checkTypeName(types[i]);
+                    checked = types[i];
+                }
+            }
+
+            // Filtre tek thread'den güncellenir; tekrar eden (ya da yanlış pozitif) kodlar yeniden üretilir.
+            for (int i = 0; i < size; i++) {
+                int regenerations = 0;
+                while (!filter.add(codes[i])) {
+                    if (++regenerations > MAX_REGENERATIONS) {
+                        throw new IllegalStateException("Could not generate a unique coupon code after "
+                                + MAX_REGENERATIONS + " attempts");
+                    }
+                    codes[i] = CouponCodeGenerator.nextCode();
+                    duplicatesRejected++;
+                }
+            }
+
+            IntStream.range(0, size).parallel().forEach(i -> encode(records, i * RECORD_SIZE, codes[i], types[i], points[i]));
+
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_SIZE + committed * RECORD_SIZE, (long) size * RECORD_SIZE);
+            region.put(records, 0, size * RECORD_SIZE);
+            region.force();
+
+            committed += size;
+            header.putLong(8, committed);
+            header.force();
+            issued += size;
+        }
+        return issued;
+    }
+
+    // Tür adı kayıttaki alana bayt bayt yazılır; sığmayan veya ASCII olmayan adlar kaydı bozar.
+    private static void checkTypeName(CouponType type) {
+        String name = type.name();
+        if (name.length() > TYPE_WIDTH) {
+            throw new IllegalArgumentException("Coupon type name longer than " + TYPE_WIDTH + " characters: " + name);
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < 0x20 || c > 0x7e) {
+                throw new IllegalArgumentException("Coupon type name is not printable ASCII: " + name);
+            }
+        }
+    }
+
+    private static void encode(byte[] records, int offset, String code, CouponType type, int points) {
+        for (int i = 0; i < CouponCodeGenerator.CODE_LENGTH; i++) {
+            records[offset++] = (byte) code.charAt(i);
+        }
+        records[offset++] = ' ';
+
+        String name = type.name();
+        for (int i = 0; i < TYPE_WIDTH; i++) {
+            records[offset++] = i < name.length() ? (byte) name.charAt(i) : (byte) ' ';
+        }
+        records[offset++] = ' ';
+
+        // Puan sağa dayalı olarak sondan başa yazılır.
+        int end = offset + POINTS_WIDTH - 1;
+        long value = Math.abs((long) points);
+        do {
+            records[end--] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        if (points < 0) {
+            records[end--] = '-';
+        }
+        while (end >= offset) {
+            records[end--] = ' ';
+        }
+        records[offset + POINTS_WIDTH] = '\n';
+    }
+
+    private void rebuildFilter() throws IOException {
+        long remaining = committed;
+        long position = HEADER_SIZE;
+        byte[] code = new byte[CouponCodeGenerator.CODE_LENGTH];
+        while (remaining > 0) {
+            int count = (int) Math.min(remaining, chunkSize);
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) count * RECORD_SIZE);
+            for (int i = 0; i < count; i++) {
+                region.position(i * RECORD_SIZE);
+                region.get(code);
+                filter.add(new String(code, StandardCharsets.US_ASCII));
+            }
+            remaining -= count;
+            position += (long) count * RECORD_SIZE;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /*
+    Kompakt kod filtresi. Yanlış pozitif oranı yaklaşık 1/10000'dir; 10 milyon kod için ~24 MB yer
+    kaplar. Yanlış pozitifler yalnızca gereksiz bir yeniden üretime yol açar, hiçbir kod kaybolmaz.
+    */
+    static final class BloomFilter {
+        private final long[] bits;
+        private final long bitCount;
+        private final int hashes;
+
+        BloomFilter(long expected) {
+            double falsePositiveRate = 1e-4;
+            long size = (long) Math.ceil(-Math.max(expected, 1) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new long[(int) Math.max(1, (size + 63) >>> 6)];
+            this.bitCount = (long) bits.length << 6;
+            this.hashes = (int) Math.max(1, Math.round(-Math.log(falsePositiveRate) / Math.log(2)));
+        }
+
+        // Kod muhtemelen daha önce eklenmişse false döner; aksi halde ekler ve true döner.
+        boolean add(String code) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < code.length(); i++) {
+                hash = (hash ^ code.charAt(i)) * 0x100000001b3L;
+            }
+            long h1 = mix(hash);
+            long h2 = mix(hash + 0x9e3779b97f4a7c15L) | 1;
+            boolean added = false;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((bits[word] & mask) == 0) {
+                    bits[word] |= mask;
+                    added = true;
+                }
+            }
+            return added;
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+            z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
+
+class CouponIssuerMain {
+    public static void main(String[] args) throws IOException {
+        int coupons = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path output = Files.createTempFile("coupons", ".dat");
+
+        long start = System.nanoTime();
+        try (CouponIssuer issuer = new CouponIssuer(output, coupons)) {
+            long issued = issuer.issue(IntStream.range(0, coupons).map(i -> i % 100));
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(String.format("Issued %d coupons in %.2f s (%.0f coupons/s), %d duplicate codes rejected",
+                    issued, seconds, issued / seconds, issuer.duplicatesRejected()));
+        }
+
+        // Aynı dosya ile yeniden başlatıldığında commit edilmiş kayıtlar atlanır.
+        try (CouponIssuer issuer = new CouponIssuer(output, coupons)) {
+            long issued = issuer.issue(IntStream.range(0, coupons).map(i -> i % 100));
+            System.out.println(String.format("After restart: %d committed, %d newly issued", issuer.committed(), issued));
+        } finally {
+            Files.delete(output);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package designpatterns.creational;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+Puan eşiklerini kupon türlerine eşleyen değiştirilemez tablo. Eşikler sıralı bir int dizisinde
+tutulur ve arama ikili arama ile O(log n) sürede yapılır. Bir puan değeri, kendisinden küçük
+veya eşit en büyük eşiğin türünü alır; en düşük eşiğin altındaki puanlar ilk türe düşer.
+
+Dosya biçimi (satır başına bir kademe, # ile başlayan satırlar yok sayılır):
+    minPoints;type[;message]
+Yerleşik türler (food, electronics) için mesaj verilmezse kendi kupon sınıfları kullanılır.
+*/
+
+final class CouponTiers {
+    private static final CouponTiers DEFAULTS = new CouponTiers(
+            new int[]{Integer.MIN_VALUE, 50},
+            new CouponType[]{CouponType.FOOD, CouponType.ELECTRONICS});
+
+    private final int[] thresholds;
+    private final CouponType[] types;
+
+    private CouponTiers(int[] thresholds, CouponType[] types) {
+        this.thresholds = thresholds;
+        this.types = types;
+    }
+
+    static CouponTiers defaults() {
+        return DEFAULTS;
+    }
+
+    CouponType typeFor(int points) {
+        int index = Arrays.binarySearch(thresholds, points);
+        if (index < 0) {
+            // Eşik tam eşleşmediyse, ekleme noktasından bir önceki kademe seçilir.
+            index = Math.max(-index - 2, 0);
+        }
+        return types[index];
+    }
+
+    List<CouponType> types() {
+        return Collections.unmodifiableList(Arrays.asList(types));
+    }
+
+    static CouponTiers load(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        List<int[]> thresholdRows = new ArrayList<>();
+        List<CouponType> parsedTypes = new ArrayList<>();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] columns = trimmed.split(";", 3);
+            if (columns.length < 2) {
+                throw new IllegalArgumentException("Invalid coupon tier: " + line);
+            }
+            int minPoints = Integer.parseInt(columns[0].trim());
+            String message = columns.length == 3 ? columns[2].trim() : null;
+            thresholdRows.add(new int[]{minPoints, parsedTypes.size()});
+            parsedTypes.add(CouponType.of(columns[1].trim(), message));
+        }
+        if (thresholdRows.isEmpty()) {
+            throw new IllegalArgumentException("No coupon tiers in " + file);
+        }
+
+        thresholdRows.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] thresholds = new int[thresholdRows.size()];
+        CouponType[] types = new CouponType[thresholdRows.size()];
+        for (int i = 0; i < thresholds.length; i++) {
+            thresholds[i] = thresholdRows.get(i)[0];
+            types[i] = parsedTypes.get(thresholdRows.get(i)[1]);
+            if (i > 0 && thresholds[i] == thresholds[i - 1]) {
+                throw new IllegalArgumentException("Duplicate coupon tier threshold: " + thresholds[i]);
+            }
+        }
+        return new CouponTiers(thresholds, types);
+    }
+}
+
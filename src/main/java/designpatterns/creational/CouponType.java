@@ -0,0 +1,44 @@
+package designpatterns.creational;
+
+import java.util.function.Supplier;
+
+// Bir kupon türünün paylaşılan, değiştirilemez tanımı. Kupon kodu her kupon için ayrıca üretilir.
+final class CouponType {
+    static final CouponType FOOD = new CouponType("food", "I am a food coupon", FoodCoupon::new);
+    static final CouponType ELECTRONICS = new CouponType("electronics", "I am an electronics coupon", ElectronicsCoupon::new);
+
+    private final String name;
+    private final String message;
+    private final Supplier<Coupon> factory;
+
+    private CouponType(String name, String message, Supplier<Coupon> factory) {
+        this.name = name;
+        this.message = message;
+        this.factory = factory != null ? factory : () -> new TieredCoupon(this);
+    }
+
+    static CouponType of(String name, String message) {
+        if (message == null) {
+            if (FOOD.name.equals(name)) {
+                return FOOD;
+            }
+            if (ELECTRONICS.name.equals(name)) {
+                return ELECTRONICS;
+            }
+            throw new IllegalArgumentException("Coupon type " + name + " needs a message");
+        }
+        return new CouponType(name, message, null);
+    }
+
+    String name() {
+        return name;
+    }
+
+    String message() {
+        return message;
+    }
+
+    Coupon newCoupon() {
+        return factory.get();
+    }
+}
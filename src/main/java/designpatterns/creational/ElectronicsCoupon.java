@@ -0,0 +1,19 @@
+package designpatterns.creational;
+
+// ElectronicsCoupon sınıfı, Coupon arayüzünü implement eder ve elektronik kuponları için özel davranışlar tanımlar.
+class ElectronicsCoupon implements Coupon {
+    // Kupon kodu, kupon oluşturulurken bir kez üretilir.
+    private final String code = CouponCodeGenerator.nextCode();
+
+    @Override
+    public String code() {
+        // Kupona ait benzersiz kodu döndürür.
+        return code;
+    }
+
+    @Override
+    public String message() {
+        // Elektronik kuponu için mesajı döndürür.
+        return "I am an electronics coupon";
+    }
+}
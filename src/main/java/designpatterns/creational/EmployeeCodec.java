@@ -0,0 +1,370 @@
+package designpatterns.creational;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+EmployeeWithBuilder için kompakt ikili kodlayıcı. toString() ile metne çevirmek yerine alanlar
+doğrudan bir ByteBuffer'a yazılır.
+
+Kayıt düzeni:
+    flags (1 bayt): hangi String alanların dolu olduğunu gösteren bitmap
+    age, personalId: zigzag varint (küçük değerler 1-2 bayt)
+    dolu her String alan: varint uzunluk + UTF-8 baytları
+
+null alanlar yalnızca bitmap'te bir bit kaplar. Okuma EmployeeBuilder üzerinden yapılır.
+Toplu aktarım için Writer kayıtları uzunluk önekiyle bir FileChannel'a akıtır, Reader geri okur.
+*/
+
+final class EmployeeCodec {
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 1 << 1;
+    private static final int PHONE = 1 << 2;
+    private static final int ADDRESS = 1 << 3;
+    private static final int MAIL = 1 << 4;
+
+    private EmployeeCodec() { }
+
+    // Kaydın bayt cinsinden boyutu; yazmadan önce yer ayırmak için kullanılır.
+    static int sizeOf(EmployeeWithBuilder employee) {
+        return 1
+                + varintSize(zigzag(employee.getAge()))
+                + varintSize(zigzag(employee.getPersonalId()))
+                + stringSize(employee.getFirstName())
+                + stringSize(employee.getLastName())
+                + stringSize(employee.getPhone())
+                + stringSize(employee.getAddress())
+                + stringSize(employee.getMail());
+    }
+
+    // Yer yetmezse BufferOverflowException fırlatır; bu durumda buffer'ın konumu belirsizdir.
+    static void write(EmployeeWithBuilder employee, ByteBuffer out) {
+        int flags = (employee.getFirstName() != null ? FIRST_NAME : 0)
+                | (employee.getLastName() != null ? LAST_NAME : 0)
+                | (employee.getPhone() != null ? PHONE : 0)
+                | (employee.getAddress() != null ? ADDRESS : 0)
+                | (employee.getMail() != null ? MAIL : 0);
+        out.put((byte) flags);
+        writeVarint(zigzag(employee.getAge()), out);
+        writeVarint(zigzag(employee.getPersonalId()), out);
+        writeString(employee.getFirstName(), out);
+        writeString(employee.getLastName(), out);
+        writeString(employee.getPhone(), out);
+        writeString(employee.getAddress(), out);
+        writeString(employee.getMail(), out);
+    }
+
+    static EmployeeWithBuilder read(ByteBuffer in) {
+        int flags = in.get();
+        int age = unzigzag(readVarint(in));
+        int personalId = unzigzag(readVarint(in));
+        String firstName = (flags & FIRST_NAME) != 0 ? readString(in) : null;
+        String lastName = (flags & LAST_NAME) != 0 ? readString(in) : null;
+        return new EmployeeWithBuilder.EmployeeBuilder(firstName, lastName, age, personalId)
+                .setPhone((flags & PHONE) != 0 ? readString(in) : null)
+                .setAddress((flags & ADDRESS) != 0 ? readString(in) : null)
+                .setMail((flags & MAIL) != 0 ? readString(in) : null)
+                .build();
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7f) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void writeVarint(int value, ByteBuffer out) {
+        while ((value & ~0x7f) != 0) {
+            out.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static int stringSize(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = utf8Length(value);
+        return varintSize(length) + length;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    // Ara byte[] oluşturmadan UTF-8 olarak yazar. Eşi olmayan surrogate'ler U+FFFD olarak yazılır.
+    private static void writeString(String value, ByteBuffer out) {
+        if (value == null) {
+            return;
+        }
+        int length = utf8Length(value);
+        writeVarint(length, out);
+        if (length == value.length() && out.hasArray()) {
+            // Yalnızca ASCII: karakterler doğrudan dizinin içine kopyalanır, put başına sınır kontrolü olmaz.
+            if (out.remaining() < length) {
+                throw new BufferOverflowException();
+            }
+            byte[] array = out.array();
+            int offset = out.arrayOffset() + out.position();
+            for (int i = 0; i < length; i++) {
+                array[offset + i] = (byte) value.charAt(i);
+            }
+            out.position(out.position() + length);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xc0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xf0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3f));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3f));
+                out.put((byte) (0x80 | codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) 0xef).put((byte) 0xbf).put((byte) 0xbd);
+            } else {
+                out.put((byte) (0xe0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3f));
+                out.put((byte) (0x80 | c & 0x3f));
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarint(in);
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /*
+    Kayıtları varint uzunluk önekiyle dosyaya akıtan yazıcı. Kayıtlar bir buffer'da
+    biriktirilir ve buffer dolduğunda tek bir write çağrısıyla kanala yazılır.
+    */
+    static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private ByteBuffer buffer;
+        private long records;
+
+        Writer(Path file) throws IOException {
+            this(file, 64 * 1024);
+        }
+
+        Writer(Path file, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocate(bufferSize);
+        }
+
+        void write(EmployeeWithBuilder employee) throws IOException {
+            int size = sizeOf(employee);
+            int total = varintSize(size) + size;
+            if (buffer.remaining() < total) {
+                flush();
+                if (buffer.capacity() < total) {
+                    buffer = ByteBuffer.allocate(Integer.highestOneBit(total) << 1);
+                }
+            }
+            writeVarint(size, buffer);
+            EmployeeCodec.write(employee, buffer);
+            records++;
+        }
+
+        long records() {
+            return records;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // Writer'ın ürettiği dosyayı okur. read() dosya sonunda null döndürür.
+    static final class Reader implements Closeable {
+        private final FileChannel channel;
+        private ByteBuffer buffer;
+        private boolean eof;
+
+        Reader(Path file) throws IOException {
+            this(file, 64 * 1024);
+        }
+
+        Reader(Path file, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocate(bufferSize);
+            buffer.flip();
+        }
+
+        EmployeeWithBuilder read() throws IOException {
+            if (!ensure(1)) {
+                return null;
+            }
+            // Uzunluk öneki en fazla 5 bayttır; dosya sonuna yakınsa daha azı yeterlidir.
+            ensure(5);
+            int size;
+            try {
+                size = readVarint(buffer);
+            } catch (BufferUnderflowException e) {
+                // Dosya uzunluk önekinin ortasında bitti; gövdesi eksik kayıtla aynı şekilde bildirilir.
+                throw new EOFException("Truncated employee record");
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt employee record", e);
+            }
+            if (size < 0) {
+                throw new IOException("Corrupt employee record");
+            }
+            if (!ensure(size)) {
+                throw new EOFException("Truncated employee record");
+            }
+            int end = buffer.position() + size;
+            EmployeeWithBuilder employee = EmployeeCodec.read(buffer);
+            if (buffer.position() != end) {
+                throw new IOException("Corrupt employee record");
+            }
+            return employee;
+        }
+
+        // Buffer'da en az 'bytes' kadar okunmamış veri olmasını sağlar; dosya biterse false döner.
+        private boolean ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+            if (buffer.capacity() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Integer.highestOneBit(bytes) << 1);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            while (!eof && buffer.position() < bytes) {
+                eof = channel.read(buffer) < 0;
+            }
+            buffer.flip();
+            return buffer.remaining() >= bytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
+
+class EmployeeCodecMain {
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        EmployeeWithBuilder sample = new EmployeeWithBuilder.EmployeeBuilder("Muratcan", "Celayir", 30, 123)
+                .setAddress("Hollanda")
+                .setMail("muratcancelayir@gmail.com")
+                .build();
+        System.out.println(String.format("toString: %d chars, binary: %d bytes",
+                sample.toString().length(), EmployeeCodec.sizeOf(sample)));
+
+        Path file = Files.createTempFile("employees", ".bin");
+        try {
+            long start = System.nanoTime();
+            try (EmployeeCodec.Writer writer = new EmployeeCodec.Writer(file)) {
+                for (int i = 0; i < count; i++) {
+                    writer.write(new EmployeeWithBuilder.EmployeeBuilder("Name" + i % 200, "Çelayir", 20 + i % 45, i)
+                            .setPhone("555" + i)
+                            .setAddress("Kadıköy İstanbul")
+                            .build());
+                }
+            }
+            double writeSeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            long read = 0;
+            EmployeeWithBuilder last = null;
+            try (EmployeeCodec.Reader reader = new EmployeeCodec.Reader(file)) {
+                EmployeeWithBuilder employee;
+                while ((employee = reader.read()) != null) {
+                    last = employee;
+                    read++;
+                }
+            }
+            double readSeconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println(String.format("Wrote %d employees (%.1f bytes/employee) in %.2f s, read %d back in %.2f s",
+                    count, (double) Files.size(file) / count, writeSeconds, read, readSeconds));
+            System.out.println(last);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package designpatterns.creational;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/*
+Milyonlarca çalışan satırını EmployeeWithBuilder nesnelerine dönüştüren akışlı CSV yükleyici.
+
+    - Dosya FileChannel üzerinden sabit boyutlu bir ByteBuffer ile okunur ve satır sınırında
+      parçalara (chunk) bölünür; parçalar ForkJoinPool üzerinde paralel olarak işlenir.
+    - Her thread tek bir EmployeeBuilder'ı tekrar kullanır.
+    - String alanlar sütun başına sınırlı bir intern tablosundan geçer; tekrar eden adres ve
+      isimler için yeni String oluşturulmaz, eşleşme doğrudan baytlar üzerinde yapılır.
+
+Satır biçimi: firstName,lastName,age,personalId,phone,address,mail
+Alanlar tırnak içermez; boş opsiyonel alanlar null olarak yüklenir. Parçalar paralel işlendiği
+için çalışanlar sink'e dosyadaki sırayla gelmez ve sink thread-safe olmalıdır.
+*/
+
+final class EmployeeCsvLoader {
+    private static final int COLUMNS = 7;
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    private final StringTable[] tables = new StringTable[COLUMNS];
+    private final int chunkBytes;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<EmployeeWithBuilder.EmployeeBuilder> builders =
+            ThreadLocal.withInitial(() -> new EmployeeWithBuilder.EmployeeBuilder(null, null, 0, 0));
+
+    EmployeeCsvLoader(int internCapacity) {
+        this(internCapacity, DEFAULT_CHUNK_BYTES, ForkJoinPool.commonPool());
+    }
+
+    EmployeeCsvLoader(int internCapacity, int chunkBytes, ForkJoinPool pool) {
+        for (int i = 0; i < COLUMNS; i++) {
+            tables[i] = new StringTable(internCapacity);
+        }
+        this.chunkBytes = chunkBytes;
+        this.pool = pool;
+    }
+
+    /*
+    Dosyayı yükler ve her çalışanı sink'e verir. Yüklenen satır sayısını döndürür. Okuma hata verse
+    bile, metot dönmeden önce kuyruğa alınmış bütün parçaların bitmesi beklenir; load() döndükten
+    veya fırlattıktan sonra sink çağrılmaz.
+    */
+    long load(Path csv, boolean header, Consumer<EmployeeWithBuilder> sink) throws IOException {
+        LongAdder rows = new LongAdder();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        // Bellekte aynı anda bekleyen parça sayısı sınırlıdır.
+        Semaphore inFlight = new Semaphore(pool.getParallelism() * 2);
+        ByteBuffer buffer = ByteBuffer.allocate(chunkBytes);
+        boolean skipLine = header;
+
+        try (FileChannel channel = FileChannel.open(csv, StandardOpenOption.READ)) {
+            boolean eof = false;
+            while (!eof && failure.get() == null) {
+                eof = channel.read(buffer) < 0;
+                buffer.flip();
+                int limit = buffer.limit();
+                int end = eof ? limit : lastNewline(buffer.array(), limit);
+                if (end < 0) {
+                    if (limit == buffer.capacity()) {
+                        throw new IOException("Line longer than " + chunkBytes + " bytes in " + csv);
+                    }
+                    buffer.position(limit).limit(buffer.capacity());
+                    continue;
+                }
+
+                byte[] chunk = Arrays.copyOf(buffer.array(), end);
+                int start = 0;
+                if (skipLine) {
+                    start = Math.min(nextLine(chunk, 0, end), end);
+                    skipLine = false;
+                }
+                int chunkStart = start;
+                inFlight.acquireUninterruptibly();
+                CompletableFuture.runAsync(() -> rows.add(parse(chunk, chunkStart, end, sink)), pool)
+                        .whenComplete((ignored, error) -> {
+                            if (error != null) {
+                                failure.compareAndSet(null, error);
+                            }
+                            inFlight.release();
+                        });
+
+                // Son satır sonundan sonraki yarım satır bir sonraki okumanın başına taşınır.
+                buffer.position(end);
+                buffer.compact();
+            }
+        } finally {
+            inFlight.acquireUninterruptibly(pool.getParallelism() * 2);
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new IOException("Failed to load " + csv, error);
+        }
+        return rows.sum();
+    }
+
+    private int parse(byte[] chunk, int from, int to, Consumer<EmployeeWithBuilder> sink) {
+        EmployeeWithBuilder.EmployeeBuilder builder = builders.get();
+        int[] bounds = new int[COLUMNS * 2];
+        int rows = 0;
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && chunk[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && chunk[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > lineStart) {
+                split(chunk, lineStart, contentEnd, bounds);
+                builder.reset(
+                        string(0, chunk, bounds),
+                        string(1, chunk, bounds),
+                        parseInt(chunk, bounds[4], bounds[5]),
+                        parseInt(chunk, bounds[6], bounds[7]))
+                        .setPhone(string(4, chunk, bounds))
+                        .setAddress(string(5, chunk, bounds))
+                        .setMail(string(6, chunk, bounds));
+                sink.accept(builder.build());
+                rows++;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return rows;
+    }
+
+    private static void split(byte[] line, int from, int to, int[] bounds) {
+        int column = 0;
+        int start = from;
+        for (int i = from; i < to && column < COLUMNS - 1; i++) {
+            if (line[i] == ',') {
+                bounds[column * 2] = start;
+                bounds[column * 2 + 1] = i;
+                column++;
+                start = i + 1;
+            }
+        }
+        if (column != COLUMNS - 1) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns: "
+                    + new String(line, from, to - from, StandardCharsets.UTF_8));
+        }
+        bounds[column * 2] = start;
+        bounds[column * 2 + 1] = to;
+    }
+
+    private String string(int column, byte[] line, int[] bounds) {
+        int from = bounds[column * 2];
+        int to = bounds[column * 2 + 1];
+        return from == to ? null : tables[column].intern(line, from, to - from);
+    }
+
+    /*
+    Integer.parseInt ile aynı kurallar, String oluşturmadan: baştaki '+' veya '-' işareti kabul edilir;
+    boş alan, tek başına işaret ve int aralığını aşan değerler NumberFormatException fırlatır. Taşma kontrolü için değer negatif tarafta biriktirilir,
+    böylece Integer.MIN_VALUE de okunabilir.
+    */
+    private static int parseInt(byte[] line, int from, int to) {
+        boolean negative = from < to && line[from] == '-';
+        int first = from < to && (negative || line[from] == '+') ? from + 1 : from;
+        if (first == to) {
+            throw new NumberFormatException("Missing number: '" + new String(line, from, to - from, StandardCharsets.UTF_8) + "'");
+        }
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int value = 0;
+        for (int i = first; i < to; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9 || value < limit / 10 || value * 10 < limit + digit) {
+                throw new NumberFormatException(new String(line, from, to - from, StandardCharsets.UTF_8));
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    private static int lastNewline(byte[] bytes, int limit) {
+        for (int i = limit - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int nextLine(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return to;
+    }
+
+    /*
+    Sınırlı, kayıplı intern tablosu: her bayt dizisi hash'ine göre tek bir slota düşer ve slot
+    çakışmasında eski değerin yerine yenisi yazılır. Bellek kullanımı kapasiteyle sınırlıdır.
+    Eşleşme UTF-8 baytları ile mevcut String karşılaştırılarak yapılır; isabet durumunda hiç nesne
+    oluşturulmaz. Eşzamanlı yazmalar en fazla bir isabetin kaçmasına yol açar, yanlış sonuç vermez.
+    */
+    static final class StringTable {
+        private final String[] values;
+        private final int[] hashes;
+        private final int mask;
+
+        StringTable(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+            this.values = new String[size];
+            this.hashes = new int[size];
+            this.mask = size - 1;
+        }
+
+        String intern(byte[] bytes, int offset, int length) {
+            int hash = 0x811c9dc5;
+            for (int i = offset; i < offset + length; i++) {
+                hash = (hash ^ bytes[i]) * 0x01000193;
+            }
+            int index = (hash ^ (hash >>> 16)) & mask;
+            String candidate = values[index];
+            if (candidate != null && hashes[index] == hash && equalsUtf8(candidate, bytes, offset, length)) {
+                return candidate;
+            }
+            String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            hashes[index] = hash;
+            values[index] = value;
+            return value;
+        }
+
+        private static boolean equalsUtf8(String value, byte[] bytes, int offset, int length) {
+            int position = offset;
+            int end = offset + length;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (position >= end || bytes[position++] != c) {
+                        return false;
+                    }
+                } else {
+                    // ASCII dışı karakterler (ör. Türkçe harfler) için karakter tek başına kodlanıp karşılaştırılır.
+                    int codePoint = Character.codePointAt(value, i);
+                    byte[] encoded = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+                    if (position + encoded.length > end) {
+                        return false;
+                    }
+                    for (byte b : encoded) {
+                        if (bytes[position++] != b) {
+                            return false;
+                        }
+                    }
+                    i += Character.charCount(codePoint) - 1;
+                }
+            }
+            return position == end;
+        }
+    }
+}
+
+class EmployeeCsvLoaderMain {
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path csv = Files.createTempFile("employees", ".csv");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                writer.write("firstName,lastName,age,personalId,phone,address,mail\n");
+                for (int i = 0; i < rows; i++) {
+                    // İsimler ve adresler sık tekrar eder, telefon ve e-posta her satırda farklıdır.
+                    writer.write("Name" + (i % 200) + ",Surname" + (i % 500) + "," + (20 + i % 45) + "," + i
+                            + ",555" + i + ",Street " + (i % 1000) + " Istanbul,user" + i + "@mail.com\n");
+                }
+            }
+
+            EmployeeWithBuilder[] employees = new EmployeeWithBuilder[rows];
+            AtomicInteger next = new AtomicInteger();
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+            long start = System.nanoTime();
+            long loaded = new EmployeeCsvLoader(4096).load(csv, true, e -> employees[next.getAndIncrement()] = e);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.gc();
+            long retained = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+            System.out.println(String.format("Loaded %d rows in %.2f s (%.0f rows/s), retained heap %d MB (%d bytes/row)",
+                    loaded, seconds, loaded / seconds, retained >> 20, retained / Math.max(1, loaded)));
+            System.out.println(employees[0]);
+        } finally {
+            Files.delete(csv);
+        }
+    }
+}
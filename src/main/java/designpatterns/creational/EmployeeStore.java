@@ -0,0 +1,380 @@
+package designpatterns.creational;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+Milyonlarca çalışanı nesne yerine sütunlar halinde tutan bellek içi depo.
+
+    - age ve personalId ilkel int[] sütunlarda tutulur.
+    - Sık tekrar eden String alanlar (isim, soyisim, adres) sözlükle kodlanır (dictionary encoding):
+      her farklı değer bir kez saklanır, satırlarda yalnızca int kodu tutulur.
+    - Genellikle satıra özgü olan telefon ve e-posta, String nesnesi yerine tek bir byte[] yığınında
+      uzunluk önekli UTF-8 olarak tutulur; satırda yalnızca başlangıç konumu vardır. Bu alanlar her
+      okumada yeni bir String olarak çözülür.
+    - null değerler her iki durumda da -1 ile gösterilir.
+    - personalId üzerinde açık adreslemeli (open addressing), kutulama yapmayan bir int indeks vardır.
+
+Satır başına nesne başlığı, referans ve HashMap düğümü olmadığı için bellek kullanımı veri
+boyutuna yakındır. Okuyucular get() ile dönen hafif View nesnesi üzerinden alanlara erişir.
+Depo tek bir yazan thread için tasarlanmıştır; yükleme bittikten sonra eşzamanlı okunabilir.
+*/
+
+final class EmployeeStore {
+    private static final int NO_ROW = -1;
+
+    private int size;
+    private int[] ages;
+    private int[] personalIds;
+    private int[] firstNames;
+    private int[] lastNames;
+    private int[] phones;
+    private int[] addresses;
+    private int[] mails;
+
+    private final StringDictionary firstNameDictionary = new StringDictionary();
+    private final StringDictionary lastNameDictionary = new StringDictionary();
+    private final StringDictionary addressDictionary = new StringDictionary();
+    private final StringHeap phoneHeap = new StringHeap();
+    private final StringHeap mailHeap = new StringHeap();
+
+    // personalId -> satır indeksi. Boş slotlar NO_ROW ile işaretlenir.
+    private int[] indexKeys;
+    private int[] indexRows;
+    private int indexMask;
+
+    EmployeeStore() {
+        this(1024);
+    }
+
+    EmployeeStore(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        ages = new int[capacity];
+        personalIds = new int[capacity];
+        firstNames = new int[capacity];
+        lastNames = new int[capacity];
+        phones = new int[capacity];
+        addresses = new int[capacity];
+        mails = new int[capacity];
+        initIndex(tableSize(capacity));
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(EmployeeWithBuilder employee) {
+        add(employee.getFirstName(), employee.getLastName(), employee.getAge(), employee.getPersonalId(),
+                employee.getPhone(), employee.getAddress(), employee.getMail());
+    }
+
+    // Aynı personalId ile yeniden eklenen çalışan mevcut satırın üzerine yazılır.
+    void add(String firstName, String lastName, int age, int personalId, String phone, String address, String mail) {
+        int row = row(personalId);
+        if (row == NO_ROW) {
+            if (size == ages.length) {
+                grow();
+            }
+            row = size++;
+            insertIndex(personalId, row);
+        }
+        ages[row] = age;
+        personalIds[row] = personalId;
+        firstNames[row] = firstNameDictionary.encode(firstName);
+        lastNames[row] = lastNameDictionary.encode(lastName);
+        phones[row] = phoneHeap.append(phone);
+        addresses[row] = addressDictionary.encode(address);
+        mails[row] = mailHeap.append(mail);
+    }
+
+    // Çalışan yoksa null döner.
+    View get(int personalId) {
+        int row = row(personalId);
+        return row == NO_ROW ? null : new View(row);
+    }
+
+    private int row(int personalId) {
+        int slot = slot(personalId);
+        while (true) {
+            int row = indexRows[slot];
+            if (row == NO_ROW || indexKeys[slot] == personalId) {
+                return row;
+            }
+            slot = (slot + 1) & indexMask;
+        }
+    }
+
+    private void grow() {
+        int capacity = ages.length * 2;
+        ages = Arrays.copyOf(ages, capacity);
+        personalIds = Arrays.copyOf(personalIds, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        phones = Arrays.copyOf(phones, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+        mails = Arrays.copyOf(mails, capacity);
+
+        // İndeks doluluk oranı 0.5'in altında tutulur; satırlar yeni tabloya yeniden dağıtılır.
+        initIndex(tableSize(capacity));
+        for (int row = 0; row < size; row++) {
+            insertIndex(personalIds[row], row);
+        }
+    }
+
+    private void initIndex(int tableSize) {
+        indexKeys = new int[tableSize];
+        indexRows = new int[tableSize];
+        Arrays.fill(indexRows, NO_ROW);
+        indexMask = tableSize - 1;
+    }
+
+    private void insertIndex(int personalId, int row) {
+        int slot = slot(personalId);
+        while (indexRows[slot] != NO_ROW) {
+            slot = (slot + 1) & indexMask;
+        }
+        indexKeys[slot] = personalId;
+        indexRows[slot] = row;
+    }
+
+    private int slot(int key) {
+        // Ardışık personalId'ler bitişik slotlara yığılmasın diye anahtar karıştırılır.
+        int h = key * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & indexMask;
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 2;
+    }
+
+    /*
+    Satırı gösteren hafif görünüm. Yalnızca depo ve satır indeksini tutar; alanlar her erişimde
+    sütunlardan okunur. Eski kodun EmployeeWithBuilder beklediği yerlerde toEmployee() kullanılabilir.
+    */
+    final class View {
+        private final int row;
+
+        private View(int row) {
+            this.row = row;
+        }
+
+        public String getFirstName() {
+            return firstNameDictionary.decode(firstNames[row]);
+        }
+
+        public String getLastName() {
+            return lastNameDictionary.decode(lastNames[row]);
+        }
+
+        public int getAge() {
+            return ages[row];
+        }
+
+        public int getPersonalId() {
+            return personalIds[row];
+        }
+
+        public String getPhone() {
+            return phoneHeap.decode(phones[row]);
+        }
+
+        public String getAddress() {
+            return addressDictionary.decode(addresses[row]);
+        }
+
+        public String getMail() {
+            return mailHeap.decode(mails[row]);
+        }
+
+        public EmployeeWithBuilder toEmployee() {
+            return new EmployeeWithBuilder.EmployeeBuilder(getFirstName(), getLastName(), getAge(), getPersonalId())
+                    .setPhone(getPhone())
+                    .setAddress(getAddress())
+                    .setMail(getMail())
+                    .build();
+        }
+
+        @Override
+        public String toString() {
+            return toEmployee().toString();
+        }
+    }
+
+    /*
+    Değer -> kod eşlemesi için açık adreslemeli tablo. Slotlarda kod + 1 tutulur (0 = boş), bu
+    yüzden HashMap'teki gibi girdi nesneleri ve kutulanmış Integer'lar oluşmaz.
+    */
+    static final class StringDictionary {
+        private String[] values = new String[16];
+        private int[] slots = new int[64];
+        private int size;
+
+        int encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            int mask = slots.length - 1;
+            int slot = mix(value.hashCode()) & mask;
+            int code;
+            while ((code = slots[slot]) != 0) {
+                if (values[code - 1].equals(value)) {
+                    return code - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size] = value;
+            slots[slot] = ++size;
+            if (size * 2 > slots.length) {
+                rehash();
+            }
+            return size - 1;
+        }
+
+        String decode(int code) {
+            return code < 0 ? null : values[code];
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void rehash() {
+            slots = new int[slots.length * 2];
+            int mask = slots.length - 1;
+            for (int code = 0; code < size; code++) {
+                int slot = mix(values[code].hashCode()) & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = code + 1;
+            }
+        }
+
+        private static int mix(int h) {
+            h *= 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /*
+    Satıra özgü String'ler için yalnızca sona eklenen bayt yığını. Her değer varint uzunluk ve UTF-8
+    baytları olarak yazılır; konumu kod olarak döner. Bir satırın üzerine yazıldığında eski değerin
+    baytları geri kazanılmaz.
+    */
+    static final class StringHeap {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        int append(String value) {
+            if (value == null) {
+                return -1;
+            }
+            int length = value.length();
+            boolean ascii = true;
+            for (int i = 0; i < length && ascii; i++) {
+                ascii = value.charAt(i) < 0x80;
+            }
+            byte[] utf8 = ascii ? null : value.getBytes(StandardCharsets.UTF_8);
+            int byteLength = ascii ? length : utf8.length;
+            ensureCapacity(5 + byteLength);
+
+            int position = size;
+            int remaining = byteLength;
+            while ((remaining & ~0x7f) != 0) {
+                bytes[size++] = (byte) ((remaining & 0x7f) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[size++] = (byte) remaining;
+            if (ascii) {
+                for (int i = 0; i < length; i++) {
+                    bytes[size++] = (byte) value.charAt(i);
+                }
+            } else {
+                System.arraycopy(utf8, 0, bytes, size, byteLength);
+                size += byteLength;
+            }
+            return position;
+        }
+
+        String decode(int position) {
+            if (position < 0) {
+                return null;
+            }
+            int length = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                length |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            return new String(bytes, position, length, StandardCharsets.UTF_8);
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (bytes.length - size < extra) {
+                long capacity = Math.max((long) bytes.length * 2, (long) size + extra);
+                if (capacity > Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("String heap is full");
+                }
+                bytes = Arrays.copyOf(bytes, (int) capacity);
+            }
+        }
+    }
+}
+
+class EmployeeStoreMain {
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Runtime runtime = Runtime.getRuntime();
+
+        // Her iki yapıda da aynı String örnekleri paylaşılır. İsimler ve adresler sık tekrar eder,
+        // telefon ve e-posta her satırda farklıdır (EmployeeCsvLoaderMain ile aynı dağılım).
+        String[] firstNames = new String[200];
+        String[] lastNames = new String[500];
+        String[] addresses = new String[1000];
+        for (int i = 0; i < firstNames.length; i++) {
+            firstNames[i] = "Name" + i;
+        }
+        for (int i = 0; i < lastNames.length; i++) {
+            lastNames[i] = "Surname" + i;
+        }
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = "Street " + i + " Istanbul";
+        }
+
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        Map<Integer, EmployeeWithBuilder> map = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            map.put(i, new EmployeeWithBuilder.EmployeeBuilder(firstNames[i % 200], lastNames[i % 500], 20 + i % 45, i)
+                    .setPhone("555" + i)
+                    .setAddress(addresses[i % 1000])
+                    .setMail("user" + i + "@mail.com")
+                    .build());
+        }
+        System.gc();
+        long mapBytes = runtime.totalMemory() - runtime.freeMemory() - before;
+
+        EmployeeStore store = new EmployeeStore();
+        for (int i = 0; i < count; i++) {
+            store.add(map.get(i));
+        }
+        map = null;
+        System.gc();
+        long storeBytes = runtime.totalMemory() - runtime.freeMemory() - before;
+
+        System.out.println(String.format("HashMap<Integer, EmployeeWithBuilder>: %d bytes/employee", mapBytes / count));
+        System.out.println(String.format("EmployeeStore:                         %d bytes/employee", storeBytes / count));
+        System.out.println(store.get(123));
+    }
+}
@@ -0,0 +1,112 @@
+package designpatterns.creational;
+
+// Builder deseninin örnek sınıfı (demo: Builder.java). EmployeeStore, EmployeeCsvLoader ve EmployeeCodec
+// de kullandığı için kendi dosyasındadır.
+class EmployeeWithBuilder {
+    private final String firstName;    //required
+    private final String lastName;    //required
+    private final int age;    //required
+    private final int personalId; // required
+    private final String phone;    //optional
+    private final String address;    //optional
+    private final String mail;    //optional
+
+    static class EmployeeBuilder {
+        private String firstName;    //required
+        private String lastName;    //required
+        private int age;    //required
+        private int personalId; // required
+        private String phone;    //optional
+        private String address;    //optional
+        private String mail;    //optional
+
+        public EmployeeBuilder(String firstName, String lastName, int age, int personalId) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.age = age;
+            this.personalId = personalId;
+        }
+
+        // Toplu yüklemede aynı builder'ı tekrar kullanmak için; opsiyonel alanlar temizlenir.
+        EmployeeBuilder reset(String firstName, String lastName, int age, int personalId) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.age = age;
+            this.personalId = personalId;
+            this.phone = null;
+            this.address = null;
+            this.mail = null;
+            return this;
+        }
+
+        public EmployeeBuilder setAddress(String address) {
+            this.address = address;
+            return this;
+        }
+
+        public EmployeeBuilder setPhone(String phone) {
+            this.phone = phone;
+            return this;
+        }
+
+        public EmployeeBuilder setMail(String mail) {
+            this.mail = mail;
+            return this;
+        }
+
+        public EmployeeWithBuilder build() {
+            return new EmployeeWithBuilder(this);
+        }
+    }
+
+    private EmployeeWithBuilder(EmployeeBuilder builder) {
+        this.firstName = builder.firstName;
+        this.lastName = builder.lastName;
+        this.age = builder.age;
+        this.personalId = builder.personalId;
+        this.phone = builder.phone;
+        this.address = builder.address;
+        this.mail = builder.mail;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public int getPersonalId() {
+        return personalId;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getMail() {
+        return mail;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeWithBuilder{\n" +
+                "firstName='" + firstName + '\'' +
+                ",\nlastName='" + lastName + '\'' +
+                ",\nage=" + age +
+                ",\npersonalId=" + personalId +
+                ",\nphone='" + phone + '\'' +
+                ",\naddress='" + address + '\'' +
+                ",\nmail='" + mail + '\'' + "\n" +
+                '}';
+    }
+}
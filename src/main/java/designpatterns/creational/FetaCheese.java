@@ -0,0 +1,13 @@
+package designpatterns.creational;
+
+class FetaCheese implements Cheese{
+    // Malzemeler durumsuzdur; tek bir paylaşılan örnek (flyweight) kullanılır.
+    static final FetaCheese INSTANCE = new FetaCheese();
+
+    private FetaCheese() { }
+
+    @Override
+    public String name() {
+        return "Feta Cheese";
+    }
+}
@@ -0,0 +1,19 @@
+package designpatterns.creational;
+
+// FoodCoupon sınıfı, Coupon arayüzünü implement eder ve gıda kuponları için özel davranışlar tanımlar.
+class FoodCoupon implements Coupon {
+    // Kupon kodu, kupon oluşturulurken bir kez üretilir.
+    private final String code = CouponCodeGenerator.nextCode();
+
+    @Override
+    public String code() {
+        // Kupona ait benzersiz kodu döndürür.
+        return code;
+    }
+
+    @Override
+    public String message() {
+        // Gıda kuponu için mesajı döndürür.
+        return "I am a food coupon";
+    }
+}
@@ -0,0 +1,13 @@
+package designpatterns.creational;
+
+class GoatCheese implements Cheese{
+    // Malzemeler durumsuzdur; tek bir paylaşılan örnek (flyweight) kullanılır.
+    static final GoatCheese INSTANCE = new GoatCheese();
+
+    private GoatCheese() { }
+
+    @Override
+    public String name() {
+        return "Goat Cheese";
+    }
+}
@@ -0,0 +1,5 @@
+package designpatterns.creational;
+
+interface Ingredient{
+    String name();
+}
@@ -0,0 +1,13 @@
+package designpatterns.creational;
+
+class MexicanSauce implements Sauce{
+    // Malzemeler durumsuzdur; tek bir paylaşılan örnek (flyweight) kullanılır.
+    static final MexicanSauce INSTANCE = new MexicanSauce();
+
+    private MexicanSauce() { }
+
+    @Override
+    public String name() {
+        return "Mexican Sauce";
+    }
+}
@@ -0,0 +1,13 @@
+package designpatterns.creational;
+
+class MexicanToppingFactory extends ToppingFactory{
+    @Override
+    Cheese getCheese() {
+        return GoatCheese.INSTANCE;
+    }
+
+    @Override
+    Sauce getSauce() {
+        return MexicanSauce.INSTANCE;
+    }
+}
@@ -0,0 +1,136 @@
+package designpatterns.creational;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/*
+Multiton, Singleton'ın anahtarlı halidir: her anahtar (tenant, bölge ...) için yalnızca bir örnek
+oluşturulur ve bu örneğe global bir erişim noktası sağlanır.
+
+Okuma yolu ConcurrentHashMap.get ile kilitsizdir. Örnek yoksa computeIfAbsent yalnızca ilgili
+bucket'ı kilitler, bu yüzden aynı anahtar için yarışan thread'ler arasında factory tek kez çalışır
+ve farklı anahtarlar birbirini beklemez.
+
+Bir girdinin son erişim turu ile kaldırılması aynı sayaç üzerinde CAS ile yarışır: evictIdle()
+girdiyi DEAD olarak işaretlemeden get() onu döndüremez, get() turu güncellediyse de evictIdle()
+onu kaldıramaz. DEAD bir girdi gören get() yeni örnek oluşturur; böylece bir anahtar için aynı anda
+en fazla bir canlı örnek olur.
+*/
+
+public class Multiton<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> instances = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+    private final BiConsumer<? super K, ? super V> evictionListener;
+
+    // Her evictIdle() çağrısında bir artar; iki çağrı arası bir turdur. Girdiler en son erişildikleri turu tutar.
+    private volatile int epoch;
+
+    public Multiton(Function<? super K, ? extends V> factory) {
+        this(factory, (key, value) -> { });
+    }
+
+    public Multiton(Function<? super K, ? extends V> factory, BiConsumer<? super K, ? super V> evictionListener) {
+        this.factory = factory;
+        this.evictionListener = evictionListener;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = instances.get(key);
+        while (true) {
+            if (entry == null) {
+                entry = instances.computeIfAbsent(key, k -> new Entry<>(factory.apply(k), epoch));
+            }
+            // Epoch başına yalnızca bir yazma yapılır; sık okunan anahtarlarda cache line paylaşımı oluşmaz.
+            int current = epoch;
+            int seen = entry.lastAccessEpoch.get();
+            if (seen == current) {
+                return entry.value;
+            }
+            if (seen != Entry.DEAD && entry.lastAccessEpoch.compareAndSet(seen, current)) {
+                return entry.value;
+            }
+            if (seen == Entry.DEAD) {
+                // evictIdle/evict bu girdiyi kaldırdı veya kaldırmak üzere; yerine yenisi oluşturulur.
+                instances.remove(key, entry);
+                entry = instances.get(key);
+            }
+        }
+    }
+
+    /*
+    Biten turda, yani bir önceki evictIdle() çağrısından (ilk çağrıda Multiton'ın oluşturulmasından)
+    bu yana get() ile hiç erişilmemiş örnekleri kaldırır ve eviction listener'a bildirir. Bir örnek,
+    erişilmeden geçen ilk tam turun sonunda kaldırılır; son erişimi biten turda olan örnekler kalır.
+    Periyodik olarak (ör. dakikada bir) çağrılması beklenir. Kaldırılan bir anahtar tekrar istenirse
+    factory ile yeni bir örnek oluşturulur.
+    */
+    public int evictIdle() {
+        int previous = epoch;
+        epoch = previous + 1;
+        int evicted = 0;
+        for (Map.Entry<K, Entry<V>> e : instances.entrySet()) {
+            Entry<V> entry = e.getValue();
+            // Biten turun numarası previous'tur; ondan eski bir son erişim, tur boyunca erişilmediği anlamına
+            // gelir. Tarama sırasında erişilen girdiler yeni turun numarasını taşır ve kalır.
+            int seen = entry.lastAccessEpoch.get();
+            if (seen != Entry.DEAD && seen < previous && entry.lastAccessEpoch.compareAndSet(seen, Entry.DEAD)) {
+                instances.remove(e.getKey(), entry);
+                evictionListener.accept(e.getKey(), entry.value);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public boolean evict(K key) {
+        Entry<V> entry = instances.remove(key);
+        if (entry == null || entry.lastAccessEpoch.getAndSet(Entry.DEAD) == Entry.DEAD) {
+            return false;
+        }
+        evictionListener.accept(key, entry.value);
+        return true;
+    }
+
+    public int size() {
+        return instances.size();
+    }
+
+    private static final class Entry<V> {
+        // Kaldırılmış girdi; get() bu girdiyi döndürmez.
+        static final int DEAD = -1;
+
+        final V value;
+        final AtomicInteger lastAccessEpoch;
+
+        Entry(V value, int lastAccessEpoch) {
+            this.value = value;
+            this.lastAccessEpoch = new AtomicInteger(lastAccessEpoch);
+        }
+    }
+}
+
+class MultitonMain {
+    public static void main(String[] args) {
+        Multiton<String, StringBuilder> tenants = new Multiton<>(
+                tenant -> new StringBuilder("config of " + tenant),
+                (tenant, config) -> System.out.println("Evicted " + tenant));
+
+        System.out.println(tenants.get("tenant-a") == tenants.get("tenant-a"));
+        tenants.get("tenant-b");
+
+        tenants.evictIdle();  // İki tenant da bu turda kullanıldı; ikisi de kalır.
+        tenants.get("tenant-a");
+        tenants.evictIdle();  // tenant-b bu turda hiç kullanılmadı ve kaldırılır.
+        System.out.println(tenants.size());
+
+        /*
+        Output:
+            true
+            Evicted tenant-b
+            1
+         */
+    }
+}
@@ -0,0 +1,24 @@
+package designpatterns.creational;
+
+import java.util.List;
+
+class PepperoniPizza extends Pizza{
+
+    public PepperoniPizza(List<Ingredient> extraIngredients) {
+        super(extraIngredients);
+    }
+
+    public PepperoniPizza() {
+    }
+
+    @Override
+    public void bake() {
+        if(extraIngredients != null){
+            for (Ingredient ingredient : extraIngredients) {
+                System.out.println(ingredient.name());
+            }
+        }
+
+        System.out.println("I am a pepperoni pizza");
+    }
+}
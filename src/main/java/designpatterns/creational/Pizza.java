@@ -0,0 +1,17 @@
+package designpatterns.creational;
+
+import java.util.List;
+
+abstract class Pizza{
+    List<Ingredient> extraIngredients;
+
+    public Pizza(List<Ingredient> extraIngredients) {
+        this.extraIngredients = extraIngredients;
+    }
+
+    public Pizza() {
+        this.extraIngredients = null;
+    }
+
+    abstract void bake();
+}
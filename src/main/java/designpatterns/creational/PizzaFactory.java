@@ -0,0 +1,47 @@
+package designpatterns.creational;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class PizzaFactory{
+    static Pizza getPizza(String type, ToppingFactory toppingFactory) {
+        return getPizza(PizzaType.of(type), toppingFactory);
+    }
+
+    static Pizza getPizza(PizzaType type, ToppingFactory toppingFactory) {
+        Pizza pizza = type.create();
+        addToppings(pizza, toppingFactory);
+        pizza.bake();
+        return pizza;
+    }
+
+    /*
+    Sipariş listesinin tamamı önce tek geçişte çözülür; geçersiz bir sipariş varsa hiçbir pizza
+    pişirilmeden hata verilir. Ardından pizzalar sırayla hazırlanır ve pişirilir.
+    */
+    static List<Pizza> getPizzas(List<PizzaOrder> orders) {
+        int size = orders.size();
+        PizzaType[] types = new PizzaType[size];
+        ToppingFactory[] toppingFactories = new ToppingFactory[size];
+        for (int i = 0; i < size; i++) {
+            PizzaOrder order = orders.get(i);
+            types[i] = PizzaType.of(order.type);
+            toppingFactories[i] = ToppingFactoryFactory.getToppingFactory(order.topping);
+        }
+
+        List<Pizza> pizzas = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pizzas.add(getPizza(types[i], toppingFactories[i]));
+        }
+        return pizzas;
+    }
+
+    // Hazırlık aşamaları ayrı ayrı da çağrılabilir; PizzaKitchen bu aşamaları farklı thread'lerde çalıştırır.
+    static Pizza createPizza(String type) {
+        return PizzaType.of(type).create();
+    }
+
+    static void addToppings(Pizza pizza, ToppingFactory toppingFactory) {
+        pizza.extraIngredients = toppingFactory.getIngredients();
+    }
+}
@@ -0,0 +1,336 @@
+package designpatterns.creational;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+Sipariş alımını pişirmeden ayıran eşzamanlı mutfak. Siparişler sınırlı bir kuyruğa alınır ve
+üç aşamalı bir hattan geçer:
+    1. oluşturma (createPizza)  - kendi thread'inde
+    2. malzeme ekleme (addToppings) - kendi thread'inde
+    3. pişirme (bake) - work-stealing bir ForkJoinPool üzerinde
+
+Aşamalar arasındaki kuyruklar ve fırın slotları sınırlıdır; hat dolduğunda submit() bekler
+(backpressure), böylece yavaş pişirme sipariş alımını sınırsız bellekle büyütmez.
+
+Sipariş alımı closeLock'un okuma kilidiyle, close() yazma kilidiyle yapılır; kapanış işaretinden
+sonra kuyruğa sipariş girmez. Kabul edilen ama henüz tamamlanmamış siparişler bir kümede izlenir;
+close() bittiğinde hâlâ tamamlanmamış olanlar CancellationException ile sonlandırılır, böylece
+submit() çağıran hiçbir istemci sonsuza kadar beklemez. Bir aşamada fırlatılan her hata (Error dahil) yalnızca o siparişin
+future'ını hatayla tamamlar, aşama thread'i çalışmaya devam eder.
+*/
+
+final class PizzaKitchen implements AutoCloseable {
+    private static final Order POISON = new Order(null, null);
+
+    private final BlockingQueue<Order> orders;
+    private final BlockingQueue<Order> toppingQueue;
+    private final ForkJoinPool bakery;
+    private final Semaphore ovenSlots;
+    private final Thread creationStage;
+    private final Thread toppingStage;
+
+    private final LatencyHistogram creationLatency = new LatencyHistogram();
+    private final LatencyHistogram toppingLatency = new LatencyHistogram();
+    private final LatencyHistogram bakingLatency = new LatencyHistogram();
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final long startedAt = System.nanoTime();
+    private final Set<Order> inFlight = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    PizzaKitchen(int queueCapacity, int bakers) {
+        this.orders = new ArrayBlockingQueue<>(queueCapacity);
+        this.toppingQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.bakery = new ForkJoinPool(bakers);
+        this.ovenSlots = new Semaphore(bakers * 2);
+        this.creationStage = new Thread(this::runCreation, "kitchen-creation");
+        this.toppingStage = new Thread(this::runTopping, "kitchen-topping");
+        creationStage.start();
+        toppingStage.start();
+    }
+
+    // Siparişi kuyruğa alır; kuyruk doluysa yer açılana kadar bekler.
+    CompletableFuture<Pizza> submit(String type, ToppingFactory toppingFactory) throws InterruptedException {
+        closeLock.readLock().lockInterruptibly();
+        try {
+            checkOpen();
+            Order order = track(new Order(type, toppingFactory));
+            boolean queued = false;
+            try {
+                orders.put(order);
+                queued = true;
+            } finally {
+                if (!queued) {
+                    inFlight.remove(order);
+                }
+            }
+            return order.result;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    // Siparişi verilen süre içinde kuyruğa alamazsa null döndürür.
+    CompletableFuture<Pizza> trySubmit(String type, ToppingFactory toppingFactory, long timeout, TimeUnit unit) throws InterruptedException {
+        closeLock.readLock().lockInterruptibly();
+        try {
+            checkOpen();
+            Order order = track(new Order(type, toppingFactory));
+            boolean queued = false;
+            try {
+                queued = orders.offer(order, timeout, unit);
+            } finally {
+                if (!queued) {
+                    inFlight.remove(order);
+                }
+            }
+            return queued ? order.result : null;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    // Sipariş kuyruğa girmeden izlenmeye başlar; future hangi yoldan tamamlanırsa tamamlansın kümeden çıkar.
+    private Order track(Order order) {
+        inFlight.add(order);
+        order.result.whenComplete((pizza, error) -> inFlight.remove(order));
+        return order;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Kitchen is closed");
+        }
+    }
+
+    private void runCreation() {
+        try {
+            while (true) {
+                Order order = orders.take();
+                if (order == POISON) {
+                    toppingQueue.put(POISON);
+                    return;
+                }
+                try {
+                    order.pizza = PizzaFactory.createPizza(order.type);
+                } catch (Throwable e) {
+                    order.result.completeExceptionally(e);
+                    continue;
+                }
+                order.createdAt = System.nanoTime();
+                creationLatency.record(order.createdAt - order.acceptedAt);
+                toppingQueue.put(order);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runTopping() {
+        try {
+            while (true) {
+                Order order = toppingQueue.take();
+                if (order == POISON) {
+                    return;
+                }
+                try {
+                    PizzaFactory.addToppings(order.pizza, order.toppingFactory);
+                } catch (Throwable e) {
+                    order.result.completeExceptionally(e);
+                    continue;
+                }
+                order.toppedAt = System.nanoTime();
+                toppingLatency.record(order.toppedAt - order.createdAt);
+
+                // Fırın slotu yoksa bu aşama bekler ve geri basınç sipariş kuyruğuna kadar yayılır.
+                ovenSlots.acquire();
+                try {
+                    bakery.execute(() -> bake(order));
+                } catch (Throwable e) {
+                    ovenSlots.release();
+                    order.result.completeExceptionally(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void bake(Order order) {
+        try {
+            order.pizza.bake();
+            long bakedAt = System.nanoTime();
+            bakingLatency.record(bakedAt - order.toppedAt);
+            totalLatency.record(bakedAt - order.acceptedAt);
+            completed.increment();
+            order.result.complete(order.pizza);
+        } catch (Throwable e) {
+            order.result.completeExceptionally(e);
+        } finally {
+            ovenSlots.release();
+        }
+    }
+
+    long completed() {
+        return completed.sum();
+    }
+
+    // Saniyedeki tamamlanan pizza sayısı ve aşama başına gecikme yüzdelikleri.
+    String report() {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        return String.format("throughput: %.0f pizzas/s (%d completed)%n", completed() / seconds, completed())
+                + creationLatency.format("creation")
+                + toppingLatency.format("topping")
+                + bakingLatency.format("baking")
+                + totalLatency.format("total");
+    }
+
+    /*
+    Yeni sipariş almayı bırakır, kuyruktaki siparişleri bitirir ve thread'leri kapatır. Beklerken
+    kesilirse (interrupt) aşamaları durdurur ve kesme bayrağını yeniden kurar; fırın bir dakika içinde
+    boşalmazsa bekleyen pişirme işleri atılır. Her iki durumda da kuyruklarda, aşama thread'lerinin
+    elinde veya atılan pişirme işlerinde kalan siparişler CancellationException ile tamamlanır.
+    */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            orders.put(POISON);
+            creationStage.join();
+            toppingStage.join();
+            bakery.shutdown();
+            if (!bakery.awaitTermination(1, TimeUnit.MINUTES)) {
+                bakery.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            creationStage.interrupt();
+            toppingStage.interrupt();
+            bakery.shutdownNow();
+        } finally {
+            orders.clear();
+            toppingQueue.clear();
+            failUnfinished();
+        }
+    }
+
+    private void failUnfinished() {
+        List<Order> unfinished = new ArrayList<>(inFlight);
+        for (Order order : unfinished) {
+            order.result.completeExceptionally(new CancellationException("Kitchen closed before the order finished"));
+        }
+    }
+
+    private static final class Order {
+        final String type;
+        final ToppingFactory toppingFactory;
+        final CompletableFuture<Pizza> result = new CompletableFuture<>();
+        final long acceptedAt = System.nanoTime();
+        Pizza pizza;
+        long createdAt;
+        long toppedAt;
+
+        Order(String type, ToppingFactory toppingFactory) {
+            this.type = type;
+            this.toppingFactory = toppingFactory;
+        }
+    }
+
+    /*
+    Eşzamanlı kaydedilebilen, sabit boyutlu gecikme histogramı. Her ikinin kuvveti aralığı 8 alt
+    kovaya bölünür; yüzdelikler en fazla %12.5 hatayla, kovanın üst sınırı olarak raporlanır.
+    */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKETS = 8;
+        private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+
+        void record(long nanos) {
+            counts.incrementAndGet(index(Math.max(nanos, 1)));
+        }
+
+        long percentile(double percentile) {
+            long total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length() - 1);
+        }
+
+        String format(String stage) {
+            return String.format("%-9s p50: %8.1f us  p99: %8.1f us  p99.9: %8.1f us%n", stage,
+                    percentile(50) / 1e3, percentile(99) / 1e3, percentile(99.9) / 1e3);
+        }
+
+        private static int index(long value) {
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            if (exponent < 3) {
+                return (int) value;
+            }
+            int subBucket = (int) (value >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+            return exponent * SUB_BUCKETS + subBucket;
+        }
+
+        private static long upperBound(int index) {
+            int exponent = index / SUB_BUCKETS;
+            if (exponent < 3) {
+                return index;
+            }
+            long subBucket = index % SUB_BUCKETS;
+            return ((SUB_BUCKETS + subBucket + 1) << (exponent - 3)) - 1;
+        }
+    }
+}
+
+class PizzaKitchenMain {
+    public static void main(String[] args) throws Exception {
+        String[] types = {"cheese", "pepperoni", "veggie"};
+        ToppingFactory[] toppings = {
+                ToppingFactoryFactory.getToppingFactory("standard"),
+                ToppingFactoryFactory.getToppingFactory("mexican"),
+                ToppingFactoryFactory.getToppingFactory("turkish")};
+
+        PizzaKitchen kitchen = new PizzaKitchen(256, Runtime.getRuntime().availableProcessors());
+        CompletableFuture<?>[] results = new CompletableFuture<?>[10_000];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = kitchen.submit(types[i % types.length], toppings[i % toppings.length]);
+        }
+        CompletableFuture.allOf(results).join();
+        kitchen.close();
+
+        System.out.print(kitchen.report());
+    }
+}
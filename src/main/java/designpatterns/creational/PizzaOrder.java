@@ -0,0 +1,12 @@
+package designpatterns.creational;
+
+// Toplu sipariş API'si için tek bir sipariş satırı.
+class PizzaOrder {
+    final String type;
+    final String topping;
+
+    PizzaOrder(String type, String topping) {
+        this.type = type;
+        this.topping = topping;
+    }
+}
@@ -0,0 +1,45 @@
+package designpatterns.creational;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Pizza türleri önceden çözülmüş bir kayıt tablosunda tutulur; her siparişte string switch yapılmaz.
+enum PizzaType {
+    CHEESE("cheese", CheesePizza::new),
+    PEPPERONI("pepperoni", PepperoniPizza::new),
+    VEGGIE("veggie", VegetarianPizza::new);
+
+    private static final Map<String, PizzaType> BY_ID = new HashMap<>();
+
+    static {
+        for (PizzaType type : values()) {
+            BY_ID.put(type.id, type);
+        }
+    }
+
+    private final String id;
+    private final Supplier<Pizza> constructor;
+
+    PizzaType(String id, Supplier<Pizza> constructor) {
+        this.id = id;
+        this.constructor = constructor;
+    }
+
+    // Küçük harfli id'ler nesne ayırmadan bulunur; toLowerCase yalnızca eşleşme yoksa denenir.
+    static PizzaType of(String id) {
+        PizzaType type = BY_ID.get(id);
+        if (type == null) {
+            type = BY_ID.get(id.toLowerCase(Locale.ROOT));
+            if (type == null) {
+                throw new IllegalArgumentException("No such pizza.");
+            }
+        }
+        return type;
+    }
+
+    Pizza create() {
+        return constructor.get();
+    }
+}
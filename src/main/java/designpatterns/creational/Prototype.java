@@ -1,41 +1,110 @@
 package designpatterns.creational;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /*
 Prototip, kodunuzu sınıflarına bağımlı hale getirmeden mevcut nesneleri kopyalamanızı sağlayan yaratıcı bir tasarım modelidir.
 Klonlanabilir arayüze sahip java için kutudan çıkar, başka bir yol da klonlama yöntemine sahip bir arayüz veya soyut sınıf oluşturmaktır
 */
 
 public class Prototype implements Cloneable {
-    private String field1;
-    private String field2;
+    /*
+    DEEP: klon, alanların kendine ait bir kopyasıyla oluşturulur.
+    COPY_ON_WRITE: klon ve kaynak aynı Fields nesnesini paylaşır. Taraflardan biri ilk kez bir
+    setField* çağırdığında yalnızca o taraf kendi kopyasını oluşturur. Dışarıdan bakıldığında
+    davranış DEEP ile aynıdır; fark, hiç değiştirilmeyen klonlar için kopyalama yapılmamasıdır.
+    */
+    enum CloneMode { DEEP, COPY_ON_WRITE }
+
+    private static final AtomicIntegerFieldUpdater<Prototype> RELEASED =
+            AtomicIntegerFieldUpdater.newUpdater(Prototype.class, "released");
+
+    private Fields fields;
+    private boolean shared;
+    // PrototypeRegistry havuzuna geri verildiyse 1; aynı örneğin iki kez geri verilmesini yakalar.
+    private volatile int released;
 
     public Prototype(String field1, String field2) {
-        this.field1 = field1;
-        this.field2 = field2;
+        this(new Fields(field1, field2), false);
     }
 
     public Prototype() {
+        this(new Fields(null, null), false);
+    }
+
+    // Örneği geri verilmiş olarak işaretler; zaten geri verilmişse false döner.
+    boolean markReleased() {
+        return RELEASED.compareAndSet(this, 0, 1);
+    }
+
+    // Havuzdan tekrar verilen örnek yeniden kullanımda sayılır.
+    void markInUse() {
+        released = 0;
+    }
+
+    private Prototype(Fields fields, boolean shared) {
+        this.fields = fields;
+        this.shared = shared;
     }
 
     public String getField1() {
-        return field1;
+        return fields.field1;
     }
 
     public String getField2() {
-        return field2;
+        return fields.field2;
     }
 
     public void setField1(String field1) {
-        this.field1 = field1;
+        writableFields().field1 = field1;
     }
 
     public void setField2(String field2) {
-        this.field2 = field2;
+        writableFields().field2 = field2;
+    }
+
+    // Paylaşılan alanlar ilk yazmada kopyalanır (lazy materialization).
+    private Fields writableFields() {
+        if (shared) {
+            fields = fields.copy();
+            shared = false;
+        }
+        return fields;
+    }
+
+    // Havuzdan tekrar kullanılan bir örneğin durumunu şablondan yeniden kurar.
+    void copyFrom(Prototype other) {
+        Fields target = writableFields();
+        target.field1 = other.fields.field1;
+        target.field2 = other.fields.field2;
     }
 
     @Override
     protected Prototype clone()  {
-        return new Prototype(field1, field2);
+        return clone(CloneMode.DEEP);
+    }
+
+    protected Prototype clone(CloneMode mode) {
+        if (mode == CloneMode.COPY_ON_WRITE) {
+            // Kaynak da artık paylaşımlıdır; kendi ilk yazmasında klonu etkilememek için kopyalar.
+            shared = true;
+            return new Prototype(fields, true);
+        }
+        return new Prototype(fields.copy(), false);
+    }
+
+    private static final class Fields {
+        String field1;
+        String field2;
+
+        Fields(String field1, String field2) {
+            this.field1 = field1;
+            this.field2 = field2;
+        }
+
+        Fields copy() {
+            return new Fields(field1, field2);
+        }
     }
 }
 
@@ -50,5 +119,11 @@ class PrototypeMain {
 
         System.out.println(String.format("Changed instance field1: %s - field2: %s", prototype2.getField1(), prototype2.getField2()));
         System.out.println(String.format("Original instance field1: %s - field2: %s", prototype1.getField1(), prototype1.getField2()));
+
+        Prototype prototype3 = prototype1.clone(Prototype.CloneMode.COPY_ON_WRITE);
+        prototype3.setField2("Changed value 2");
+
+        System.out.println(String.format("Copy-on-write instance field1: %s - field2: %s", prototype3.getField1(), prototype3.getField2()));
+        System.out.println(String.format("Original instance field1: %s - field2: %s", prototype1.getField1(), prototype1.getField2()));
     }
 }
@@ -0,0 +1,173 @@
+package designpatterns.creational;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Prototype Registry, şablonları bir isimle saklar ve istemcilere bu şablonların klonlarını verir.
+İstemcilerin orijinal nesneleri kendilerinin tutmasına gerek kalmaz.
+
+Havuz isteğe bağlıdır. Havuz boyutu verilirse, release() ile geri verilen klonlar sınırlı bir
+havuzda saklanır ve sonraki get() çağrısında şablonun durumu üzerine kopyalanarak tekrar kullanılır.
+Varsayılan (havuzsuz) mod önerilir: PrototypeBenchmark'ta havuzlu get/release düz bir klondan
+belirgin biçimde yavaştır, çünkü buradaki şablonlar küçük ve kısa ömürlüdür; ayırma maliyeti havuzun
+CAS ve kopyalama maliyetinden düşüktür. Havuz ancak klonlanması pahalı şablonlarda düşünülmelidir.
+
+Geri verilen bir örnek artık kullanılmamalıdır. Aynı örneğin ikinci kez geri verilmesi
+IllegalStateException ile reddedilir; ancak örnek havuzdan başka bir çağırana verildikten sonra
+yapılan geç bir release ayırt edilemez.
+*/
+
+public class PrototypeRegistry {
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final int poolSize;
+    private final LongAdder poolHits = new LongAdder();
+    private final LongAdder poolMisses = new LongAdder();
+
+    public PrototypeRegistry() {
+        this(0);
+    }
+
+    public PrototypeRegistry(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    // Şablonun bir kopyası saklanır; çağıranın nesnesini sonradan değiştirmesi kayıtlı şablonu etkilemez.
+    public void register(String name, Prototype prototype) {
+        templates.put(name, new Template(prototype.clone(), poolSize));
+    }
+
+    public Prototype get(String name) {
+        Template template = template(name);
+        Prototype pooled = template.pool == null ? null : template.pool.poll();
+        if (pooled != null) {
+            poolHits.increment();
+            pooled.markInUse();
+            pooled.copyFrom(template.original);
+            return pooled;
+        }
+        poolMisses.increment();
+        return template.original.clone();
+    }
+
+    // Artık kullanılmayan bir klonu havuza geri verir. Havuz doluysa klon GC'ye bırakılır.
+    public void release(String name, Prototype instance) {
+        Template template = template(name);
+        if (!instance.markReleased()) {
+            throw new IllegalStateException("Prototype already released: " + name);
+        }
+        if (template.pool != null) {
+            template.pool.offer(instance);
+        }
+    }
+
+    public long getPoolHits() {
+        return poolHits.sum();
+    }
+
+    public long getPoolMisses() {
+        return poolMisses.sum();
+    }
+
+    private Template template(String name) {
+        Template template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("No such prototype: " + name);
+        }
+        return template;
+    }
+
+    private static final class Template {
+        final Prototype original;
+        final Pool pool;
+
+        Template(Prototype original, int poolSize) {
+            this.original = original;
+            this.pool = poolSize > 0 ? new Pool(poolSize) : null;
+        }
+    }
+
+    /*
+    Sabit boyutlu, kilitsiz havuz. Her thread taramaya kendi id'sine göre farklı bir slottan başlar
+    ve en fazla MAX_PROBES slota bakar; offer/poll sırasında yeni nesne ayrılmaz. Havuz bir
+    önbellek gibi davranır: tarama sırasında boş slot ya da nesne bulunamazsa sonuç miss sayılır.
+    */
+    private static final class Pool {
+        private static final int MAX_PROBES = 8;
+        private final AtomicReferenceArray<Prototype> slots;
+
+        Pool(int size) {
+            this.slots = new AtomicReferenceArray<>(size);
+        }
+
+        Prototype poll() {
+            int length = slots.length();
+            int start = start(length);
+            for (int i = 0, probes = Math.min(length, MAX_PROBES); i < probes; i++) {
+                int index = (start + i) % length;
+                Prototype instance = slots.get(index);
+                if (instance != null && slots.compareAndSet(index, instance, null)) {
+                    return instance;
+                }
+            }
+            return null;
+        }
+
+        void offer(Prototype instance) {
+            int length = slots.length();
+            int start = start(length);
+            for (int i = 0, probes = Math.min(length, MAX_PROBES); i < probes; i++) {
+                int index = (start + i) % length;
+                if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+                    return;
+                }
+            }
+        }
+
+        private static int start(int length) {
+            return (int) (Thread.currentThread().getId() % length);
+        }
+    }
+}
+
+class PrototypeRegistryMain {
+    public static void main(String[] args) {
+        // Varsayılan mod: her get() yeni bir klon verir; kayıttan sonra orijinali değiştirmek şablonu etkilemez.
+        PrototypeRegistry registry = new PrototypeRegistry();
+        Prototype prototype = new Prototype("Original value 1", "Original value 2");
+        registry.register("default", prototype);
+        prototype.setField1("Changed after register");
+
+        Prototype first = registry.get("default");
+        first.setField1("Changed value 1");
+        Prototype second = registry.get("default");
+        System.out.println(String.format("first: %s, second: %s", first.getField1(), second.getField1()));
+
+        // Havuzlu mod: geri verilen klon bir sonraki get() çağrısında şablonun durumuyla tekrar kullanılır.
+        PrototypeRegistry pooled = new PrototypeRegistry(16);
+        pooled.register("default", new Prototype("Original value 1", "Original value 2"));
+
+        Prototype third = pooled.get("default");
+        third.setField1("Changed value 1");
+        pooled.release("default", third);
+        try {
+            pooled.release("default", third);
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+
+        Prototype fourth = pooled.get("default");
+        System.out.println(String.format("Pooled instance reused: %s, field1: %s", third == fourth, fourth.getField1()));
+        System.out.println(String.format("Pool hits: %d, misses: %d", pooled.getPoolHits(), pooled.getPoolMisses()));
+
+        /*
+        Output:
+            first: Changed value 1, second: Original value 1
+            Prototype already released: default
+            Pooled instance reused: true, field1: Original value 1
+            Pool hits: 1, misses: 1
+         */
+    }
+}
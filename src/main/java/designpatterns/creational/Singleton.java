@@ -1,35 +1,258 @@
 package designpatterns.creational;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
 /*
 Singleton, bir sınıfın yalnızca bir örneği olmasını sağlarken
 bu örneğe global bir erişim noktası sağlayan bir tasarım modelidir.
 */
 
 public class Singleton {
-    private static Singleton INSTANCE;
-    private String info = "Initial value";
+    static final String INFO_KEY = "info";
+    static final String DEFAULT_INFO = "Initial value";
+
+    /*
+    Yapılandırma değiştirilemez, sürüm numaralı bir Snapshot olarak tutulur ve her güncellemede
+    yenisi atomik olarak yerine konur. Okuyucular hiçbir zaman kilit beklemez ve yarım uygulanmış
+    bir güncelleme göremez; ya eski ya da yeni snapshot'ın tamamını görür.
+    */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.initial());
 
     private Singleton() { }
 
-    public static Singleton getInstance() {
-        if(INSTANCE == null) {
-            INSTANCE = new Singleton();
-        }
+    /*
+    Initialization-on-demand holder: Holder sınıfı ilk getInstance() çağrısında yüklenir ve
+    JVM sınıf ilklendirmesini tek seferlik ve thread-safe yapar. İlklendirmeden sonra okuma
+    yolunda kilit ya da volatile okuma yoktur, sıradan bir static final alan okumasıdır.
+    */
+    private static class Holder {
+        private static final Singleton INSTANCE = new Singleton();
+    }
 
-        return INSTANCE;
+    public static Singleton getInstance() {
+        return Holder.INSTANCE;
     }
 
     public String getInfo() {
-        return info;
+        return snapshot.get().getInfo();
     }
 
     public void setInfo(String info) {
-        this.info = info;
+        snapshot.updateAndGet(current -> current.with(INFO_KEY, info));
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public long getVersion() {
+        return snapshot.get().getVersion();
+    }
+
+    // Dosyadan okunan değerlerle yeni bir snapshot yayınlar. İçerik değişmediyse sürüm artmaz.
+    Snapshot publish(Map<String, String> values) {
+        return snapshot.updateAndGet(current -> current.values.equals(values) ? current : current.replace(values));
+    }
+
+    // Verilen properties dosyasını izleyen ve her değişiklikte yapılandırmayı yeniden yükleyen bir Reloader başlatır.
+    public Reloader watch(Path file) throws IOException {
+        Reloader reloader = new Reloader(this, file);
+        reloader.start();
+        return reloader;
+    }
+
+    public static final class Snapshot {
+        private final long version;
+        private final long loadedAtMillis;
+        private final Map<String, String> values;
+
+        private Snapshot(long version, Map<String, String> values) {
+            this.version = version;
+            this.loadedAtMillis = System.currentTimeMillis();
+            this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        }
+
+        static Snapshot initial() {
+            return new Snapshot(0, Collections.singletonMap(INFO_KEY, DEFAULT_INFO));
+        }
+
+        Snapshot with(String key, String value) {
+            Map<String, String> copy = new HashMap<>(values);
+            copy.put(key, value);
+            return new Snapshot(version + 1, copy);
+        }
+
+        Snapshot replace(Map<String, String> newValues) {
+            return new Snapshot(version + 1, newValues);
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public long getLoadedAtMillis() {
+            return loadedAtMillis;
+        }
+
+        public String getInfo() {
+            return values.getOrDefault(INFO_KEY, DEFAULT_INFO);
+        }
+
+        public String get(String key) {
+            return values.get(key);
+        }
+
+        public Map<String, String> getValues() {
+            return values;
+        }
+    }
+
+    /*
+    Properties dosyasının bulunduğu dizini WatchService ile izler. Dosya değiştiğinde tamamı okunur
+    ve tek bir snapshot olarak yayınlanır. Yayılma süresi, değişiklik olayının alınmasından yeni
+    snapshot'ın yayınlanmasına kadar geçen süredir; ilk yükleme ve elle çağrılan reload() ölçülmez.
+
+    Dosya yerinde düzenlenirken yarım haliyle okunabilir. Bu yüzden olay geldikten sonra kısa bir
+    süre beklenir ve dosya okunur; okuma sırasında boyutu veya değiştirilme zamanı değiştiyse ya da
+    içerik ayrıştırılamıyorsa yayınlanmaz, okuma birkaç kez tekrarlanır. Hepsi başarısız olursa mevcut
+    snapshot korunur ve bir sonraki değişiklik beklenir. En güvenli yol yine de dosyayı geçici bir
+    dosyaya yazıp taşımaktır (atomic move).
+    */
+    public static final class Reloader implements Closeable {
+        private static final long SETTLE_MILLIS = 50;
+        private static final int MAX_ATTEMPTS = 5;
+
+        private final Singleton target;
+        private final Path file;
+        private final WatchService watchService;
+        private final Thread thread;
+        private volatile long lastReloadLatencyMillis = -1;
+        private final AtomicLong reloadCount = new AtomicLong();
+
+        private Reloader(Singleton target, Path file) throws IOException {
+            this.target = target;
+            this.file = file.toAbsolutePath();
+            this.watchService = this.file.getFileSystem().newWatchService();
+            this.file.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            this.thread = new Thread(this::watchLoop, "singleton-config-reloader");
+            this.thread.setDaemon(true);
+        }
+
+        private void start() throws IOException {
+            reload();
+            thread.start();
+        }
+
+        public void reload() throws IOException {
+            target.publish(read());
+            reloadCount.incrementAndGet();
+        }
+
+        /*
+        Değişiklik olayından sonra dosya yazımı bitene kadar bekleyip yeniden yükler. Okuma sırasında
+        dosya değiştiyse veya ayrıştırılamadıysa tekrar dener; başarısız olursa false döner ve mevcut
+        snapshot korunur.
+        */
+        private boolean reloadAfterChange(long eventNanos) throws InterruptedException {
+            IOException failure = null;
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                TimeUnit.MILLISECONDS.sleep(SETTLE_MILLIS);
+                try {
+                    BasicFileAttributes before = Files.readAttributes(file, BasicFileAttributes.class);
+                    Map<String, String> values = read();
+                    BasicFileAttributes after = Files.readAttributes(file, BasicFileAttributes.class);
+                    if (before.size() != after.size() || !before.lastModifiedTime().equals(after.lastModifiedTime())) {
+                        continue;
+                    }
+                    target.publish(values);
+                    lastReloadLatencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - eventNanos);
+                    reloadCount.incrementAndGet();
+                    return true;
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            // Okunamayan dosya mevcut snapshot'ı bozmaz, bir sonraki değişiklik beklenir.
+            System.err.println("Config reload failed: " + (failure == null ? "file kept changing" : failure.getMessage()));
+            return false;
+        }
+
+        private Map<String, String> read() throws IOException {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IllegalArgumentException e) {
+                // Yarım kalmış bir unicode kaçış dizisi.
+                throw new IOException("Malformed properties file: " + e.getMessage(), e);
+            }
+            Map<String, String> values = new HashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                values.put(name, properties.getProperty(name));
+            }
+            return values;
+        }
+
+        private void watchLoop() {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    long receivedAt = System.nanoTime();
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (file.getFileName().equals(event.context())) {
+                            changed = true;
+                        }
+                    }
+                    if (changed) {
+                        reloadAfterChange(receivedAt);
+                    }
+                    if (!key.reset()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // close() çağrıldı.
+            }
+        }
+
+        public long getLastReloadLatencyMillis() {
+            return lastReloadLatencyMillis;
+        }
+
+        public long getReloadCount() {
+            return reloadCount.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            watchService.close();
+            thread.interrupt();
+        }
     }
 }
 
 class SingletonMain {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         Singleton singleton1 = Singleton.getInstance();
         System.out.println(singleton1.getInfo());
 
@@ -45,5 +268,21 @@ class SingletonMain {
             Changed value
             Changed value
          */
+
+        Path config = Files.createTempFile("singleton", ".properties");
+        Files.write(config, "info=Loaded from file\n".getBytes(StandardCharsets.UTF_8));
+        try (Singleton.Reloader reloader = singleton1.watch(config)) {
+            System.out.println(singleton1.getInfo() + " (version " + singleton1.getVersion() + ")");
+
+            Files.write(config, "info=Reloaded from file\n".getBytes(StandardCharsets.UTF_8));
+            long version = singleton1.getVersion();
+            for (int i = 0; i < 100 && singleton1.getVersion() == version; i++) {
+                Thread.sleep(50);
+            }
+            System.out.println(singleton1.getInfo() + " (version " + singleton1.getVersion()
+                    + ", latency " + reloader.getLastReloadLatencyMillis() + " ms)");
+        } finally {
+            Files.deleteIfExists(config);
+        }
     }
 }
@@ -0,0 +1,21 @@
+package designpatterns.creational;
+
+import java.util.Collections;
+import java.util.List;
+
+class StandardToppingFactory extends ToppingFactory{
+    @Override
+    Cheese getCheese() {
+        return null;
+    }
+
+    @Override
+    Sauce getSauce() {
+        return null;
+    }
+
+    @Override
+    List<Ingredient> getIngredients() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,25 @@
+package designpatterns.creational;
+
+// Dosyadan tanımlanan türler için kupon: türü paylaşır, yalnızca kendi kodunu taşır.
+final class TieredCoupon implements Coupon {
+    private final CouponType type;
+    private final String code = CouponCodeGenerator.nextCode();
+
+    TieredCoupon(CouponType type) {
+        this.type = type;
+    }
+
+    CouponType type() {
+        return type;
+    }
+
+    @Override
+    public String code() {
+        return code;
+    }
+
+    @Override
+    public String message() {
+        return type.message();
+    }
+}
@@ -0,0 +1,21 @@
+package designpatterns.creational;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+abstract class ToppingFactory {
+    // Malzemeler paylaşılan örnekler olduğu için liste bir kez oluşturulur ve her pizzada tekrar kullanılır.
+    private volatile List<Ingredient> ingredients;
+
+    abstract Cheese getCheese();
+    abstract Sauce getSauce();
+    List<Ingredient> getIngredients() {
+        List<Ingredient> cached = ingredients;
+        if (cached == null) {
+            cached = Collections.unmodifiableList(Arrays.asList(getCheese(), getSauce()));
+            ingredients = cached;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,80 @@
+package designpatterns.creational;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+class ToppingFactoryFactory{
+    /*
+    Fabrika tablosu ServiceLoader ile keşfedilen sağlayıcılardan ilk kullanımda bir kez kurulur
+    (holder idiom). Keşif yalnızca hafif sağlayıcı nesnelerini oluşturur; her fabrika ilk kez
+    istendiğinde oluşturulur ve sonraki çağrılarda aynı örnek döner. Böylece yüzlerce sağlayıcı
+    olsa bile başlangıç maliyeti yalnızca kullanılan fabrikalar kadardır. Aynı adı (büyük/küçük
+    harf farkı gözetmeden) taşıyan iki sağlayıcı bir yapılandırma hatasıdır ve ServiceConfigurationError
+    fırlatılır.
+    */
+    private static final class Registry {
+        static final Map<String, LazyFactory> FACTORIES = new HashMap<>();
+        static final long DISCOVERY_NANOS;
+
+        static {
+            long start = System.nanoTime();
+            for (ToppingFactoryProvider provider : ServiceLoader.load(ToppingFactoryProvider.class)) {
+                String name = provider.name().toLowerCase(Locale.ROOT);
+                LazyFactory existing = FACTORIES.putIfAbsent(name, new LazyFactory(provider));
+                if (existing != null) {
+                    throw new ServiceConfigurationError("Duplicate topping factory provider '" + name + "': "
+                            + existing.provider.getClass().getName() + ", " + provider.getClass().getName());
+                }
+            }
+            DISCOVERY_NANOS = System.nanoTime() - start;
+        }
+    }
+
+    private static final class LazyFactory {
+        private final ToppingFactoryProvider provider;
+        private volatile ToppingFactory factory;
+
+        LazyFactory(ToppingFactoryProvider provider) {
+            this.provider = provider;
+        }
+
+        ToppingFactory get() {
+            ToppingFactory result = factory;
+            if (result == null) {
+                synchronized (this) {
+                    result = factory;
+                    if (result == null) {
+                        result = provider.create();
+                        factory = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    static ToppingFactory getToppingFactory(String type) {
+        LazyFactory lazyFactory = Registry.FACTORIES.get(type);
+        if (lazyFactory == null) {
+            lazyFactory = Registry.FACTORIES.get(type.toLowerCase(Locale.ROOT));
+            if (lazyFactory == null) {
+                throw new IllegalArgumentException("No such pizza.");
+            }
+        }
+        return lazyFactory.get();
+    }
+
+    // Sağlayıcı keşfinin sürdüğü süre; tablo henüz kurulmadıysa keşfi tetikler.
+    static long discoveryNanos() {
+        return Registry.DISCOVERY_NANOS;
+    }
+
+    static Set<String> names() {
+        return Collections.unmodifiableSet(Registry.FACTORIES.keySet());
+    }
+}
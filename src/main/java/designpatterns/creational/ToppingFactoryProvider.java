@@ -0,0 +1,53 @@
+package designpatterns.creational;
+
+/*
+Bölgesel malzeme fabrikaları için ServiceLoader arayüzü. Yeni bir bölge eklemek için
+ToppingFactoryFactory'deki tabloyu düzenlemek gerekmez; sağlayıcı sınıfı
+META-INF/services/designpatterns.creational.ToppingFactoryProvider dosyasına eklemek yeterlidir.
+
+ToppingFactory paket içi bir sınıf olduğu için sağlayıcılar da designpatterns.creational
+paketinde (aynı ya da ayrı bir jar içinde) tanımlanmalıdır. Sağlayıcı nesneleri keşif sırasında
+oluşturulur, bu yüzden hafif olmalıdır; asıl fabrika create() ile ilk kullanımda oluşturulur.
+*/
+
+public interface ToppingFactoryProvider {
+    String name();
+
+    ToppingFactory create();
+
+    class Standard implements ToppingFactoryProvider {
+        @Override
+        public String name() {
+            return "standard";
+        }
+
+        @Override
+        public ToppingFactory create() {
+            return new StandardToppingFactory();
+        }
+    }
+
+    class Mexican implements ToppingFactoryProvider {
+        @Override
+        public String name() {
+            return "mexican";
+        }
+
+        @Override
+        public ToppingFactory create() {
+            return new MexicanToppingFactory();
+        }
+    }
+
+    class Turkish implements ToppingFactoryProvider {
+        @Override
+        public String name() {
+            return "turkish";
+        }
+
+        @Override
+        public ToppingFactory create() {
+            return new TurkishToppingFactory();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package designpatterns.creational;
+
+class TurkishSauce implements Sauce{
+    // Malzemeler durumsuzdur; tek bir paylaşılan örnek (flyweight) kullanılır.
+    static final TurkishSauce INSTANCE = new TurkishSauce();
+
+    private TurkishSauce() { }
+
+    @Override
+    public String name() {
+        return "Turkish Sauce";
+    }
+}
@@ -0,0 +1,13 @@
+package designpatterns.creational;
+
+class TurkishToppingFactory extends ToppingFactory{
+    @Override
+    Cheese getCheese() {
+        return FetaCheese.INSTANCE;
+    }
+
+    @Override
+    Sauce getSauce() {
+        return TurkishSauce.INSTANCE;
+    }
+}
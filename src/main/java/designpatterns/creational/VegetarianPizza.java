@@ -0,0 +1,24 @@
+package designpatterns.creational;
+
+import java.util.List;
+
+class VegetarianPizza extends Pizza{
+
+    public VegetarianPizza(List<Ingredient> extraIngredients) {
+        super(extraIngredients);
+    }
+
+    public VegetarianPizza() {
+    }
+
+    @Override
+    public void bake() {
+        if(extraIngredients != null){
+            for (Ingredient ingredient : extraIngredients) {
+                System.out.println(ingredient.name());
+            }
+        }
+        System.out.println("I am a vegetarian pizza");
+
+    }
+}
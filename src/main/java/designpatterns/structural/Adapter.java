@@ -1,5 +1,26 @@
 package designpatterns.structural;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
 /*
 Adapter tasarım kalıbı, doğrudan bağlanamayan iki uyumsuz arayüzü birbirine bağlamak için kullanılır.
 Bir Adapter, mevcut bir sınıfı yeni bir arayüzle sarmalar, böylece ihtiyaç duyulan arayüzle uyumlu hale gelir.
@@ -20,6 +41,18 @@ public class Adapter {
     // LegacyUserService arayüzü, eski sistemdeki kullanıcı bilgilerini almak için kullanılan servis arayüzüdür.
     interface LegacyUserService {
         LegacyUser getUser(int id);  // Verilen id ile LegacyUser nesnesini döndüren metot.
+
+        /*
+        Verilen id'lerin kullanıcılarını aynı sırayla döndürür; bulunamayanlar null olur.
+        Toplu sorgu desteklemeyen eski servisler için varsayılan gerçekleme tek tek getUser çağırır.
+        */
+        default LegacyUser[] getUsers(int[] ids) {
+            LegacyUser[] users = new LegacyUser[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                users[i] = getUser(ids[i]);
+            }
+            return users;
+        }
     }
 
     // User sınıfı, yeni sistemdeki kullanıcı modelini temsil eder.
@@ -36,11 +69,35 @@ public class Adapter {
     // UserRepository arayüzü, yeni sistemdeki kullanıcı verilerini almak için kullanılan veri erişim arayüzüdür.
     interface UserRepository {
         User getUser(String email);  // Verilen email ile User nesnesini döndüren metot.
+
+        // Bulunan kullanıcıları email sırasıyla döndürür; bulunamayan email'ler atlanır.
+        default List<User> getUsers(Collection<String> emails) {
+            List<User> users = new ArrayList<>(emails.size());
+            for (String email : emails) {
+                User user = getUser(email);
+                if (user != null) {
+                    users.add(user);
+                }
+            }
+            return users;
+        }
     }
 
     // UserService arayüzü, yeni sistemdeki kullanıcı servisini temsil eder.
     interface UserService {
         User getUser(String email);  // Verilen email ile User nesnesini döndüren metot.
+
+        // Bir sayfa kullanıcıyı tek seferde çözer; bulunamayan email'ler atlanır.
+        default List<User> getUsers(Collection<String> emails) {
+            List<User> users = new ArrayList<>(emails.size());
+            for (String email : emails) {
+                User user = getUser(email);
+                if (user != null) {
+                    users.add(user);
+                }
+            }
+            return users;
+        }
     }
 
     // UserServiceAdapter sınıfı, eski ve yeni sistemlerin uyumsuzluklarını çözmek için kullanılan adapter sınıfıdır.
@@ -50,33 +107,731 @@ public class Adapter {
         UserRepository userRepository;
         LegacyUserService legacyUserService;
 
+        UserServiceAdapter(UserRepository userRepository, LegacyUserService legacyUserService) {
+            this.userRepository = userRepository;
+            this.legacyUserService = legacyUserService;
+        }
+
         @Override
         public User getUser(String email) {
             // Yeni sistemdeki repository'den kullanıcıyı alır.
             User user = userRepository.getUser(email);
-            // Eski sistemden kullanıcıyı alır (LegacyUser).
-            LegacyUser legacyUser = legacyUserService.getUser(user.id);
-            // Eski sistemdeki verilerle yeni kullanıcıyı günceller.
+            if (user == null) {
+                return null;
+            }
+            // Eski sistemden kullanıcıyı alır (LegacyUser) ve yeni kullanıcıyla birleştirir.
+            return merge(user, legacyUserService.getUser(user.id));
+        }
+
+        /*
+        N kullanıcı için 2N yerine 2 çağrı yapar: önce repository'den tüm kullanıcılar, sonra eski
+        sistemden tüm id'ler tek seferde alınır ve sonuçlar tek geçişte birleştirilir. Eski servis
+        toplu sorgu desteklemiyorsa LegacyUserService.getUsers'ın varsayılan gerçeklemesi devreye girer.
+        */
+        @Override
+        public List<User> getUsers(Collection<String> emails) {
+            List<User> users = userRepository.getUsers(emails);
+            int[] ids = new int[users.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = users.get(i).id;
+            }
+            LegacyUser[] legacyUsers = legacyUserService.getUsers(ids);
+            for (int i = 0; i < ids.length; i++) {
+                merge(users.get(i), legacyUsers[i]);
+            }
+            return users;
+        }
+    }
+
+    // Eski sistemdeki verilerle yeni kullanıcıyı günceller. Eski kayıt yoksa kullanıcı olduğu gibi kalır.
+    static User merge(User user, LegacyUser legacyUser) {
+        if (legacyUser != null) {
             user.username = legacyUser.username;
             user.lastname = legacyUser.lastname;
-            return user;  // Yeni sistemdeki kullanıcıyı döndürür.
+        }
+        return user;  // Yeni sistemdeki kullanıcıyı döndürür.
+    }
+
+    // Yeni sistemde karşılığı olmayan eski kullanıcıdan User oluşturur (toplu taşıma için).
+    User fromLegacy(LegacyUser legacyUser) {
+        User user = new User();
+        user.id = legacyUser.id;
+        user.name = legacyUser.name;
+        return merge(user, legacyUser);
+    }
+
+    // Çağıran thread'i bekletmeyen kullanıcı servisi.
+    interface AsyncUserService {
+        CompletableFuture<User> getUserAsync(String email);
+    }
+
+    /*
+    Repository ve eski servis çağrılarını çağıran thread'i bloklamadan zincirler: kullanıcı
+    repository'den gelir gelmez id'si ile eski servis sorgusu başlar. Her backend kendi Bulkhead'i
+    ile sınırlandırılır, böylece yavaşlayan eski servis repository kapasitesini tüketmez.
+    Eski servis çağrısı süre aşımına uğrarsa future TimeoutException ile tamamlanır; süre aşımı bir
+    zamanlayıcıdan tetiklenir, beklemek için hiçbir havuz thread'i bloklanmaz.
+    */
+    class AsyncUserServiceAdapter extends UserServiceAdapter implements AsyncUserService {
+        private final Bulkhead repositoryBulkhead;
+        private final Bulkhead legacyBulkhead;
+        private final ScheduledExecutorService timer;
+        private final long legacyTimeoutMillis;
+
+        AsyncUserServiceAdapter(UserRepository userRepository, Bulkhead repositoryBulkhead,
+                                LegacyUserService legacyUserService, Bulkhead legacyBulkhead,
+                                ScheduledExecutorService timer, long legacyTimeoutMillis) {
+            super(userRepository, legacyUserService);
+            this.repositoryBulkhead = repositoryBulkhead;
+            this.legacyBulkhead = legacyBulkhead;
+            this.timer = timer;
+            this.legacyTimeoutMillis = legacyTimeoutMillis;
+        }
+
+        @Override
+        public CompletableFuture<User> getUserAsync(String email) {
+            return repositoryBulkhead.submit(() -> userRepository.getUser(email))
+                    .thenCompose(user -> user == null
+                            ? CompletableFuture.completedFuture(null)
+                            : withTimeout(legacyBulkhead.submit(() -> legacyUserService.getUser(user.id)))
+                                    .thenApply(legacyUser -> merge(user, legacyUser)));
+        }
+
+        private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> call) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            ScheduledFuture<?> timeout = timer.schedule(() -> result.completeExceptionally(
+                    new TimeoutException("Legacy lookup exceeded " + legacyTimeoutMillis + " ms")),
+                    legacyTimeoutMillis, TimeUnit.MILLISECONDS);
+            call.whenComplete((value, error) -> {
+                timeout.cancel(false);
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            return result;
+        }
+    }
+
+    /*
+    Bir backend'e aynı anda gönderilen çağrı sayısını sınırlar. Sınır doluysa çağrı bekleyen
+    kuyruğa alınır ve bir çağrı bittiğinde başlatılır; submit() hiçbir zaman bloklamaz.
+    Süre aşımına uğrayan çağrı backend'de bitene kadar yerini tutmaya devam eder, bu yüzden
+    yavaş bir backend'e sınırdan fazla yük gitmez. Çağrının fırlattığı her hata (Error dahil) ve
+    executor'ın reddi dönen future'ı hatayla tamamlar.
+    */
+    static class Bulkhead {
+        private final Executor executor;
+        private final int maxInFlight;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Queue<Call<?>> waiting = new ConcurrentLinkedQueue<>();
+
+        Bulkhead(Executor executor, int maxInFlight) {
+            this.executor = executor;
+            this.maxInFlight = maxInFlight;
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+            Call<T> call = new Call<>(supplier);
+            waiting.add(call);
+            drain();
+            return call.result;
+        }
+
+        private void drain() {
+            while (!waiting.isEmpty()) {
+                int current = inFlight.get();
+                if (current >= maxInFlight) {
+                    return;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    Call<?> call = waiting.poll();
+                    if (call == null) {
+                        inFlight.decrementAndGet();
+                        continue;
+                    }
+                    try {
+                        executor.execute(call);
+                    } catch (Throwable e) {
+                        inFlight.decrementAndGet();
+                        call.result.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+
+        int inFlight() {
+            return inFlight.get();
+        }
+
+        private final class Call<T> implements Runnable {
+            final Supplier<T> supplier;
+            final CompletableFuture<T> result = new CompletableFuture<>();
+
+            Call(Supplier<T> supplier) {
+                this.supplier = supplier;
+            }
+
+            @Override
+            public void run() {
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                    drain();
+                }
+            }
+        }
+    }
+
+    /*
+    LegacyUserService için read-through önbellek (decorator). İlkel int anahtarlı, segmentlere
+    bölünmüş açık adreslemeli bir tabloda tutulur; id'ler kutulanmaz.
+
+        - Her girdinin bir son kullanma zamanı (TTL) vardır; bulunamayan kullanıcılar da daha kısa
+          bir TTL ile önbelleğe alınır (negative caching), böylece olmayan id'ler eski servisi yormaz.
+        - Toplam boyut sınırlıdır. Önbellek dolduğunda, yazılan segmentten CLOCK algoritmasıyla yakın
+          zamanda okunmamış ya da süresi dolmuş bir girdi çıkarılır. Sınır segmentler arasında
+          paylaşıldığı için id'lerin segmentlere dengesiz dağılması gereksiz çıkarmalara yol açmaz;
+          boş bir segmente yazılırken sınır en fazla segment sayısı kadar aşılabilir.
+        - Okuma yolu StampedLock'un iyimser okumasıyla kilitsizdir; yalnızca yazmalar ve bir girdinin
+          referans bitinin ilk kez açılması kilit alır.
+
+    Aynı id için eşzamanlı ıskalamalar birleştirilmez; her biri eski servise gider ve son yazan kazanır.
+    */
+    class CachingLegacyUserService implements LegacyUserService {
+        private final LegacyUserService delegate;
+        private final Segment[] segments;
+        private final int segmentShift;
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        // Önbellekteki "kullanıcı yok" kaydı.
+        private final LegacyUser missing = new LegacyUser();
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int maxSize;
+
+        // negativeTtl, ttl'den uzun olamaz; aksi halde yeni eklenen bir kullanıcı gerçek girdilerden uzun süre görünmez kalır.
+        CachingLegacyUserService(LegacyUserService delegate, int maxSize, long ttl, long negativeTtl, TimeUnit unit) {
+            if (negativeTtl > ttl) {
+                throw new IllegalArgumentException("negativeTtl (" + negativeTtl + ") must not exceed ttl (" + ttl + ")");
+            }
+            this.delegate = delegate;
+            this.ttlNanos = unit.toNanos(ttl);
+            this.negativeTtlNanos = unit.toNanos(negativeTtl);
+            this.maxSize = maxSize;
+            int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(16, maxSize / 64)));
+            this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+            this.segments = new Segment[segmentCount];
+            // Bir segment ortalama payının en fazla iki katını tutabilir.
+            int segmentLimit = 2 * ((maxSize + segmentCount - 1) / segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = new Segment(segmentLimit);
+            }
+        }
+
+        @Override
+        public LegacyUser getUser(int id) {
+            int hash = mix(id);
+            Segment segment = segmentFor(hash);
+            LegacyUser cached = segment.get(id, hash, System.nanoTime());
+            if (cached != null) {
+                hits.increment();
+                return cached == missing ? null : cached;
+            }
+            misses.increment();
+            long start = System.nanoTime();
+            LegacyUser loaded = delegate.getUser(id);
+            long now = System.nanoTime();
+            loadNanos.add(now - start);
+            segment.put(id, hash, loaded, now);
+            return loaded;
+        }
+
+        // Önbellekte olmayan id'ler eski servise tek bir toplu çağrıyla sorulur.
+        @Override
+        public LegacyUser[] getUsers(int[] ids) {
+            LegacyUser[] result = new LegacyUser[ids.length];
+            int[] missed = new int[ids.length];
+            int missCount = 0;
+            long now = System.nanoTime();
+            for (int i = 0; i < ids.length; i++) {
+                int hash = mix(ids[i]);
+                LegacyUser cached = segmentFor(hash).get(ids[i], hash, now);
+                if (cached != null) {
+                    result[i] = cached == missing ? null : cached;
+                } else {
+                    missed[missCount++] = i;
+                }
+            }
+            hits.add(ids.length - missCount);
+            if (missCount == 0) {
+                return result;
+            }
+            misses.add(missCount);
+
+            int[] missedIds = new int[missCount];
+            for (int i = 0; i < missCount; i++) {
+                missedIds[i] = ids[missed[i]];
+            }
+            long start = System.nanoTime();
+            LegacyUser[] loaded = delegate.getUsers(missedIds);
+            now = System.nanoTime();
+            loadNanos.add(now - start);
+            for (int i = 0; i < missCount; i++) {
+                int hash = mix(missedIds[i]);
+                segmentFor(hash).put(missedIds[i], hash, loaded[i], now);
+                result[missed[i]] = loaded[i];
+            }
+            return result;
+        }
+
+        double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+        long evictionCount() {
+            return evictions.sum();
+        }
+
+        // Iskalanan id başına eski servis yükleme süresi; toplu çağrıların süresi id sayısına bölünmüş olur.
+        double averageLoadMillis() {
+            long loads = misses.sum();
+            return loads == 0 ? 0 : loadNanos.sum() / 1e6 / loads;
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        String stats() {
+            return String.format("hit ratio %.1f%%, %d evictions, avg load %.2f ms, %d entries",
+                    hitRatio() * 100, evictionCount(), averageLoadMillis(), size());
+        }
+
+        private Segment segmentFor(int hash) {
+            return segments[(hash >>> segmentShift) & (segments.length - 1)];
+        }
+
+        private int mix(int id) {
+            int h = id * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+
+        // Doluluk oranı 0.5'in altında kalan, linear probing ve geri kaydırmalı silme kullanan tablo.
+        private final class Segment {
+            private final StampedLock lock = new StampedLock();
+            private final int[] keys;
+            private final LegacyUser[] values;
+            private final long[] expiresAt;
+            private final boolean[] referenced;
+            private final int mask;
+            private final int limit;
+            private int count;
+            private int hand;
+
+            Segment(int limit) {
+                int capacity = Integer.highestOneBit(Math.max(2, limit) - 1) << 2;
+                this.keys = new int[capacity];
+                this.values = new LegacyUser[capacity];
+                this.expiresAt = new long[capacity];
+                this.referenced = new boolean[capacity];
+                this.mask = capacity - 1;
+                this.limit = limit;
+            }
+
+            /*
+            İyimser okuma tabloya yazmaz. Referans biti yalnızca okuma kilidi tutulurken açılır: bit
+            zaten açıksa (sık okunan girdiler) kilit hiç alınmaz, değilse iyimser damga okuma kilidine
+            çevrilir. Çevirme başarısız olursa bit atlanır; CLOCK için yalnızca bir ipucudur.
+            */
+            LegacyUser get(int id, int hash, long now) {
+                long stamp = lock.tryOptimisticRead();
+                int slot = find(id, hash, now);
+                LegacyUser value = slot < 0 ? null : values[slot];
+                boolean referencedBefore = slot >= 0 && referenced[slot];
+                if (lock.validate(stamp)) {
+                    if (slot >= 0 && !referencedBefore) {
+                        long readStamp = lock.tryConvertToReadLock(stamp);
+                        if (readStamp != 0L) {
+                            try {
+                                referenced[slot] = true;
+                            } finally {
+                                lock.unlockRead(readStamp);
+                            }
+                        }
+                    }
+                    return value;
+                }
+                stamp = lock.readLock();
+                try {
+                    slot = find(id, hash, now);
+                    if (slot < 0) {
+                        return null;
+                    }
+                    referenced[slot] = true;
+                    return values[slot];
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+
+            // Girdinin slotunu döner, yoksa ya da süresi dolmuşsa -1. İyimser okumada tablo değişebilir;
+            // döngü tablo boyutuyla sınırlıdır ve sonuç validate ile doğrulanır.
+            private int find(int id, int hash, long now) {
+                int slot = hash & mask;
+                for (int probes = 0; probes <= mask; probes++) {
+                    if (values[slot] == null) {
+                        return -1;
+                    }
+                    if (keys[slot] == id) {
+                        return expiresAt[slot] - now <= 0 ? -1 : slot;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                return -1;
+            }
+
+            void put(int id, int hash, LegacyUser loaded, long now) {
+                LegacyUser value = loaded == null ? missing : loaded;
+                long expires = now + (loaded == null ? negativeTtlNanos : ttlNanos);
+                long stamp = lock.writeLock();
+                try {
+                    int slot = hash & mask;
+                    while (values[slot] != null) {
+                        if (keys[slot] == id) {
+                            values[slot] = value;
+                            expiresAt[slot] = expires;
+                            return;
+                        }
+                        slot = (slot + 1) & mask;
+                    }
+                    if (count > 0 && (count >= limit || size.get() >= maxSize)) {
+                        evictOne(now);
+                        slot = hash & mask;
+                        while (values[slot] != null) {
+                            slot = (slot + 1) & mask;
+                        }
+                    }
+                    keys[slot] = id;
+                    values[slot] = value;
+                    expiresAt[slot] = expires;
+                    referenced[slot] = false;
+                    count++;
+                    size.incrementAndGet();
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+            }
+
+            // CLOCK: referans biti açık olanlara ikinci şans verilir, süresi dolmuş olanlar hemen çıkarılır.
+            private void evictOne(long now) {
+                while (true) {
+                    hand = (hand + 1) & mask;
+                    if (values[hand] == null) {
+                        continue;
+                    }
+                    if (referenced[hand] && expiresAt[hand] - now > 0) {
+                        referenced[hand] = false;
+                        continue;
+                    }
+                    removeAt(hand);
+                    evictions.increment();
+                    return;
+                }
+            }
+
+            // Silinen slotun ardındaki girdiler, arama zincirleri kopmayacak şekilde geri kaydırılır.
+            private void removeAt(int slot) {
+                int hole = slot;
+                int next = (hole + 1) & mask;
+                while (values[next] != null) {
+                    int home = mix(keys[next]) & mask;
+                    if (((next - home) & mask) >= ((next - hole) & mask)) {
+                        keys[hole] = keys[next];
+                        values[hole] = values[next];
+                        expiresAt[hole] = expiresAt[next];
+                        referenced[hole] = referenced[next];
+                        hole = next;
+                    }
+                    next = (next + 1) & mask;
+                }
+                values[hole] = null;
+                count--;
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /*
+    Uzak servisleri taklit eden bellek içi gerçeklemeler. Her çağrı bir ağ gidiş-dönüşü (round trip)
+    sayılır ve sabit bir gecikme ekler; böylece N+1 sorgu maliyeti demo'da ölçülebilir.
+    */
+    abstract class InMemoryBackend {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final long latencyMillis;
+
+        InMemoryBackend(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        void roundTrip() {
+            calls.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+
+    class InMemoryUserRepository extends InMemoryBackend implements UserRepository {
+        private final Map<String, User> users = new HashMap<>();
+
+        InMemoryUserRepository(long latencyMillis) {
+            super(latencyMillis);
+        }
+
+        void add(User user) {
+            users.put(user.email, user);
+        }
+
+        @Override
+        public User getUser(String email) {
+            roundTrip();
+            return copy(users.get(email));
+        }
+
+        @Override
+        public List<User> getUsers(Collection<String> emails) {
+            roundTrip();
+            List<User> result = new ArrayList<>(emails.size());
+            for (String email : emails) {
+                User user = copy(users.get(email));
+                if (user != null) {
+                    result.add(user);
+                }
+            }
+            return result;
+        }
+
+        // Gerçek bir servis gibi her çağrıda yeni nesne döndürür.
+        private User copy(User stored) {
+            if (stored == null) {
+                return null;
+            }
+            User user = new User();
+            user.id = stored.id;
+            user.email = stored.email;
+            user.name = stored.name;
+            user.location = stored.location;
+            user.isActive = stored.isActive;
+            return user;
+        }
+    }
+
+    // Yalnızca tek kayıt sorgulayabilen eski servis; getUsers varsayılan gerçeklemeye düşer.
+    class SingleLookupLegacyUserService extends InMemoryBackend implements LegacyUserService {
+        final Map<Integer, LegacyUser> users = new HashMap<>();
+
+        SingleLookupLegacyUserService(long latencyMillis) {
+            super(latencyMillis);
+        }
+
+        void add(LegacyUser user) {
+            users.put(user.id, user);
+        }
+
+        @Override
+        public LegacyUser getUser(int id) {
+            roundTrip();
+            return users.get(id);
+        }
+    }
+
+    // Toplu sorgu destekleyen eski servis.
+    class InMemoryLegacyUserService extends SingleLookupLegacyUserService {
+
+        InMemoryLegacyUserService(long latencyMillis) {
+            super(latencyMillis);
+        }
+
+        @Override
+        public LegacyUser[] getUsers(int[] ids) {
+            roundTrip();
+            LegacyUser[] result = new LegacyUser[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                result[i] = users.get(ids[i]);
+            }
+            return result;
         }
     }
 
     // Adapter deseni ile uyumluluk sağlanarak eski ve yeni sistemler arasındaki entegrasyonu gösterir.
     public void adapterDemo() {
+        InMemoryUserRepository repository = new InMemoryUserRepository(2);
+        SingleLookupLegacyUserService singleLookup = new SingleLookupLegacyUserService(2);
+        InMemoryLegacyUserService batchLookup = new InMemoryLegacyUserService(2);
+        List<String> emails = new ArrayList<>();
+        for (int id = 1; id <= 50; id++) {
+            User user = new User();
+            user.id = id;
+            user.email = "user" + id + "@email.com";
+            user.name = "Name" + id;
+            repository.add(user);
+
+            LegacyUser legacyUser = new LegacyUser();
+            legacyUser.id = id;
+            legacyUser.username = "user" + id;
+            legacyUser.lastname = "Lastname" + id;
+            singleLookup.add(legacyUser);
+            batchLookup.add(legacyUser);
+            emails.add(user.email);
+        }
+
         // UserService arayüzüne sahip yeni bir kullanıcı servisi adapter'ı oluşturulur.
-        UserService userService = new UserServiceAdapter();
+        UserService userService = new UserServiceAdapter(repository, batchLookup);
 
         // Bir email adresi ile kullanıcı bilgileri alınır.
-        User user = userService.getUser("email@email.com");
+        User user = userService.getUser("user1@email.com");
 
         // Kullanıcı bilgileri ekrana yazdırılır.
-        System.out.println(user);
+        System.out.println(user.email + " " + user.username + " " + user.lastname);
+
+        // Bir sayfa kullanıcı: tek tek, toplu + eski servis tek kayıt, toplu + eski servis toplu.
+        measure("getUser x50", repository, batchLookup, () -> {
+            for (String email : emails) {
+                userService.getUser(email);
+            }
+        });
+        measure("getUsers, single-lookup legacy", repository, singleLookup,
+                () -> new UserServiceAdapter(repository, singleLookup).getUsers(emails));
+        measure("getUsers, batch legacy", repository, batchLookup,
+                () -> userService.getUsers(emails));
+    }
+
+    private void measure(String label, InMemoryBackend repository, InMemoryBackend legacy, Runnable page) {
+        int repositoryCalls = repository.calls();
+        int legacyCalls = legacy.calls();
+        long start = System.nanoTime();
+        page.run();
+        System.out.println(String.format("%-32s %3d repository + %3d legacy calls, %4d ms", label,
+                repository.calls() - repositoryCalls, legacy.calls() - legacyCalls,
+                (System.nanoTime() - start) / 1_000_000));
+    }
+
+    /*
+    Yük testi: eski servis her çağrıda 20 ms gecikir ve her 50. kullanıcıda 500 ms takılır.
+    Senkron adapter istekleri sırayla işlerken asenkron adapter backend başına 32 çağrıyı aynı anda
+    yürütür ve takılan eski servis çağrılarını 250 ms sonra süre aşımıyla bitirir. Süre, çağrının
+    Bulkhead kuyruğunda beklediği zamanı da kapsar.
+    */
+    public void asyncAdapterDemo() throws InterruptedException {
+        int requests = 200;
+        InMemoryUserRepository repository = new InMemoryUserRepository(1);
+        InMemoryLegacyUserService legacy = new InMemoryLegacyUserService(20);
+        for (int id = 1; id <= requests; id++) {
+            User user = new User();
+            user.id = id;
+            user.email = "user" + id + "@email.com";
+            repository.add(user);
+
+            LegacyUser legacyUser = new LegacyUser();
+            legacyUser.id = id;
+            legacyUser.username = "user" + id;
+            legacy.add(legacyUser);
+        }
+        LegacyUserService slowLegacy = id -> {
+            if (id % 50 == 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(480);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return legacy.getUser(id);
+        };
+
+        UserService sync = new UserServiceAdapter(repository, slowLegacy);
+        long start = System.nanoTime();
+        for (int id = 1; id <= requests; id++) {
+            sync.getUser("user" + id + "@email.com");
+        }
+        double syncSeconds = (System.nanoTime() - start) / 1e9;
+
+        ExecutorService repositoryPool = Executors.newFixedThreadPool(32);
+        ExecutorService legacyPool = Executors.newFixedThreadPool(32);
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+        AsyncUserService async = new AsyncUserServiceAdapter(
+                repository, new Bulkhead(repositoryPool, 32),
+                slowLegacy, new Bulkhead(legacyPool, 32),
+                timer, 250);
+        AtomicInteger timeouts = new AtomicInteger();
+        start = System.nanoTime();
+        CompletableFuture<?>[] results = new CompletableFuture<?>[requests];
+        for (int id = 1; id <= requests; id++) {
+            results[id - 1] = async.getUserAsync("user" + id + "@email.com").exceptionally(error -> {
+                timeouts.incrementAndGet();
+                return null;
+            });
+        }
+        CompletableFuture.allOf(results).join();
+        double asyncSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(String.format("sync:  %d users in %.2f s (%.0f users/s)", requests, syncSeconds, requests / syncSeconds));
+        System.out.println(String.format("async: %d users in %.2f s (%.0f users/s), %d legacy timeouts",
+                requests, asyncSeconds, requests / asyncSeconds, timeouts.get()));
+
+        repositoryPool.shutdown();
+        legacyPool.shutdown();
+        timer.shutdown();
+        legacyPool.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    /*
+    Önbellek demo'su: 1000 kullanıcının bir kısmı çok daha sık sorgulanır (çarpık dağılım) ve
+    isteklerin bir kısmı hiç olmayan id'ler içindir. Önbellek 256 girdiyle sınırlıdır.
+    */
+    public void cachingDemo() {
+        InMemoryLegacyUserService legacy = new InMemoryLegacyUserService(1);
+        for (int id = 1; id <= 1000; id++) {
+            LegacyUser legacyUser = new LegacyUser();
+            legacyUser.id = id;
+            legacyUser.username = "user" + id;
+            legacy.add(legacyUser);
+        }
+        CachingLegacyUserService cache = new CachingLegacyUserService(legacy, 256, 10, 1, TimeUnit.MINUTES);
+        Random random = new Random(42);
+        int lookups = 5000;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            double r = random.nextDouble();
+            // %5 olmayan kullanıcı (1001-1020), kalanı küçük id'lere yığılan bir dağılım.
+            int id = r < 0.05 ? 1001 + random.nextInt(20) : 1 + (int) (1000 * Math.pow(random.nextDouble(), 4));
+            cache.getUser(id);
+        }
+        System.out.println(String.format("cached: %d lookups in %d ms, %d legacy calls, %s", lookups,
+                (System.nanoTime() - start) / 1_000_000, legacy.calls(), cache.stats()));
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         Adapter adapter = new Adapter();
         adapter.adapterDemo();  // Demo fonksiyonu çağrılır ve çalıştırılır.
+        adapter.asyncAdapterDemo();
+        adapter.cachingDemo();
     }
 }
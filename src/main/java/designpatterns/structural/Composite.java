@@ -1,19 +1,53 @@
 package designpatterns.structural;
 
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 // Bir nesne grubu ile tek bir nesneyi aynı şekilde işlemeye olanak tanır.
 
 public class Composite {
 
     abstract class Department{
+        // Bağlı olduğu bölge müdürlüğü; bir departman yalnızca bir müdürlüğe bağlı olabilir.
+        RegionalDirectorate parent;
+
         abstract String getName();
         abstract List<String> getEmployees();
         abstract Map<String, String> getReports();
+
+        // Alt ağaçtaki yaprak departman sayısı; paralel gezinmede iş bölümü için kullanılır.
+        int getDepartmentCount() {
+            return 1;
+        }
+
+        /*
+        Alt ağacın çalışanlarını ara liste oluşturmadan, derinlik öncelikli sırayla ve tembel olarak
+        üretir (bkz. EmployeeSpliterator). findFirst/limit yalnızca gerekli departmanları okur;
+        parallel() ile alt ağaçlar iş parçacıkları arasında bölünür.
+        */
+        Stream<String> streamEmployees() {
+            return StreamSupport.stream(new EmployeeSpliterator(this), false);
+        }
+
+        // Departmanın verisi değiştiğinde çağrılır; yalnızca üst müdürlüklerin önbellekleri geçersiz olur.
+        void changed() {
+            for (RegionalDirectorate directorate = parent; directorate != null; directorate = directorate.parent) {
+                directorate.invalidate();
+            }
+        }
     }
 
     class FinanceDepartment extends Department {
@@ -52,27 +86,304 @@ public class Composite {
         }
     }
 
+    // Çalışanları değişebilen departman; her değişiklik üst müdürlüklere bildirilir.
+    class TeamDepartment extends Department {
+        private final String name;
+        private final List<String> employees = new CopyOnWriteArrayList<>();
+        private final Map<String, String> reports = new ConcurrentHashMap<>();
+
+        TeamDepartment(String name, String... employees) {
+            this.name = name;
+            this.employees.addAll(Arrays.asList(employees));
+        }
+
+        void hire(String employee) {
+            employees.add(employee);
+            changed();
+        }
+
+        void dismiss(String employee) {
+            if (employees.remove(employee)) {
+                changed();
+            }
+        }
+
+        void report(String key, String value) {
+            reports.put(key, value);
+            changed();
+        }
+
+        @Override
+        String getName() {
+            return name;
+        }
+
+        @Override
+        List<String> getEmployees() {
+            return Collections.unmodifiableList(employees);
+        }
+
+        @Override
+        Map<String, String> getReports() {
+            return Collections.unmodifiableMap(reports);
+        }
+    }
+
+    /*
+    Alt ağacın toplamlarını (isim, çalışanlar, raporlar) ilk istendiğinde hesaplar ve saklar; tekrar
+    eden okumalar O(1)'dir. Bir departman değiştiğinde yalnızca onun üst müdürlüklerinin önbellekleri
+    silinir, kardeş alt ağaçlar yeniden hesaplanmaz. Çalışan listesi alt departmanların listelerini
+    kopyalamadan birleştiren bir görünümdür (küçük alt ağaçlarda düz kopya); yeniden hesaplama çalışan
+    sayısıyla değil alt departman sayısıyla orantılıdır. Dönen liste ve map değiştirilemez.
+
+    Her geçersiz kılma sürüm numarasını artırır. Hesaplama başladığı andaki sürümü hatırlar ve sonucu
+    yalnızca sürüm değişmediyse saklar; böylece hesaplama sırasında gelen bir değişiklik eski bir
+    sonucun önbellekte kalmasına yol açmaz.
+    */
     class RegionalDirectorate extends Department {
 
-        List<Department> childDepartments;
+        // Bu boyuta kadar olan çalışan listeleri birleşik görünüm yerine düz bir listeye kopyalanır.
+        private static final int FLATTEN_LIMIT = 1024;
+
+        private final List<Department> childDepartments;
+
+        private long version;
+        private volatile String name;
+        private volatile List<String> employees;
+        private volatile Map<String, String> reports;
+        private volatile int departmentCount = -1;
 
         public RegionalDirectorate(List<Department> childDepartments) {
-            this.childDepartments = childDepartments;
+            this.childDepartments = new CopyOnWriteArrayList<>(childDepartments);
+            for (Department department : this.childDepartments) {
+                detach(department);
+                department.parent = this;
+            }
+        }
+
+        // Başka bir müdürlüğe bağlı departman önce oradan çıkarılır; eski müdürlüğün önbelleği de silinir.
+        void addDepartment(Department department) {
+            detach(department);
+            department.parent = this;
+            childDepartments.add(department);
+            invalidate();
+            changed();
+        }
+
+        void removeDepartment(Department department) {
+            if (childDepartments.remove(department)) {
+                department.parent = null;
+                invalidate();
+                changed();
+            }
+        }
+
+        private void detach(Department department) {
+            if (department.parent != null && department.parent != this) {
+                department.parent.removeDepartment(department);
+            }
+        }
+
+        List<Department> getChildDepartments() {
+            return Collections.unmodifiableList(childDepartments);
+        }
+
+        synchronized void invalidate() {
+            version++;
+            name = null;
+            employees = null;
+            reports = null;
+            departmentCount = -1;
+        }
+
+        private synchronized long version() {
+            return version;
         }
 
         @Override
         String getName() {
-            return childDepartments.stream().map(Department::getName).collect(Collectors.joining(", "));
+            String cached = name;
+            if (cached == null) {
+                long started = version();
+                cached = childDepartments.stream().map(Department::getName).collect(Collectors.joining(", "));
+                synchronized (this) {
+                    if (version == started) {
+                        name = cached;
+                    }
+                }
+            }
+            return cached;
         }
 
         @Override
         List<String> getEmployees() {
-            return childDepartments.stream().flatMap(d -> d.getEmployees().stream()).collect(Collectors.toList());
+            List<String> cached = employees;
+            if (cached == null) {
+                long started = version();
+                List<List<String>> parts = new ArrayList<>(childDepartments.size());
+                int total = 0;
+                for (Department department : childDepartments) {
+                    List<String> part = department.getEmployees();
+                    if (!(department instanceof RegionalDirectorate)) {
+                        // Yaprak listeler canlı görünümler olabilir (TeamDepartment); birleşik liste sabit
+                        // uzunluklarla çalıştığı için kopyası alınır. Müdürlüklerin listeleri zaten değişmez.
+                        part = new ArrayList<>(part);
+                    }
+                    parts.add(part);
+                    total += part.size();
+                }
+                if (total <= FLATTEN_LIMIT) {
+                    // Küçük alt ağaçlarda kopyalamak ucuzdur ve gezinmeyi hızlandırır.
+                    List<String> flat = new ArrayList<>(total);
+                    for (List<String> part : parts) {
+                        flat.addAll(part);
+                    }
+                    cached = Collections.unmodifiableList(flat);
+                } else {
+                    cached = new ConcatenatedList<>(parts);
+                }
+                synchronized (this) {
+                    if (version == started) {
+                        employees = cached;
+                    }
+                }
+            }
+            return cached;
         }
 
+        /*
+        Alt departmanların raporlarını sırayla birleştirir. null rapor boş kabul edilir; aynı anahtar
+        birden fazla departmanda varsa ilk gelen korunur (ReportCollector.ConflictRule.KEEP_FIRST).
+        */
         @Override
         Map<String, String> getReports() {
-            return childDepartments.stream().flatMap(d -> d.getReports().entrySet().stream()).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            Map<String, String> cached = reports;
+            if (cached == null) {
+                long started = version();
+                Map<String, String> merged = new HashMap<>();
+                for (Department department : childDepartments) {
+                    ReportCollector.merge(merged, department.getReports(), true, ReportCollector.ConflictRule.KEEP_FIRST);
+                }
+                cached = Collections.unmodifiableMap(merged);
+                synchronized (this) {
+                    if (version == started) {
+                        reports = cached;
+                    }
+                }
+            }
+            return cached;
+        }
+
+        @Override
+        int getDepartmentCount() {
+            int cached = departmentCount;
+            if (cached < 0) {
+                long started = version();
+                cached = 0;
+                for (Department department : childDepartments) {
+                    cached += department.getDepartmentCount();
+                }
+                synchronized (this) {
+                    if (version == started) {
+                        departmentCount = cached;
+                    }
+                }
+            }
+            return cached;
+        }
+    }
+
+    /*
+    Birden fazla listeyi kopyalamadan tek bir değiştirilemez liste olarak gösterir. get(i) parça
+    başlangıçları üzerinde ikili arama yapar; sıralı gezinme parçaların kendi iterator'larını kullanır.
+    Parça uzunlukları kurulurken sabitlenir; bu yüzden parçalar sonradan değişmemelidir.
+    RegionalDirectorate yaprak departmanların listelerini kopyalayarak verir.
+    */
+    static final class ConcatenatedList<T> extends AbstractList<T> {
+        private final List<?>[] parts;
+        private final int[] offsets;
+
+        ConcatenatedList(List<? extends List<? extends T>> parts) {
+            this.parts = parts.toArray(new List<?>[0]);
+            this.offsets = new int[this.parts.length + 1];
+            for (int i = 0; i < this.parts.length; i++) {
+                offsets[i + 1] = offsets[i] + this.parts[i].size();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + ", size " + size());
+            }
+            int part = Arrays.binarySearch(offsets, index);
+            // Boş parçalar aynı başlangıcı paylaşır; eşleşmede son eşit başlangıca ilerlenir.
+            if (part >= 0) {
+                while (offsets[part + 1] == index) {
+                    part++;
+                }
+            } else {
+                part = -part - 2;
+            }
+            return (T) parts[part].get(index - offsets[part]);
+        }
+
+        @Override
+        public int size() {
+            return offsets[parts.length];
+        }
+
+        /*
+        İç içe birleşik listelerde her seviyenin iterator'ı bir alttakine delege etseydi eleman başına
+        maliyet derinlikle artardı. Bunun yerine birleşik parçalar bir yığında gezilir ve yalnızca
+        yaprak listelerin iterator'ları kullanılır.
+        */
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private final ArrayDeque<Frame> frames = new ArrayDeque<>(Collections.singleton(new Frame(ConcatenatedList.this)));
+                private Iterator<?> current = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext()) {
+                        Frame top = frames.peek();
+                        if (top == null) {
+                            return false;
+                        }
+                        if (top.part == top.list.parts.length) {
+                            frames.pop();
+                            continue;
+                        }
+                        List<?> next = top.list.parts[top.part++];
+                        if (next instanceof ConcatenatedList) {
+                            frames.push(new Frame((ConcatenatedList<?>) next));
+                        } else {
+                            current = next.iterator();
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return (T) current.next();
+                }
+            };
+        }
+
+        private static final class Frame {
+            final ConcatenatedList<?> list;
+            int part;
+
+            Frame(ConcatenatedList<?> list) {
+                this.list = list;
+            }
         }
     }
 
@@ -85,6 +396,7 @@ public class Composite {
         System.out.println(regionalDirectorate.getName());
         System.out.println(regionalDirectorate.getEmployees());
         System.out.println(regionalDirectorate.getReports());
+        System.out.println(regionalDirectorate.streamEmployees().filter(employee -> employee.endsWith("5")).findFirst().orElse(null));
 
     }
 
@@ -0,0 +1,208 @@
+package designpatterns.structural;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/*
+Bir departman ağacının çalışanlarını derinlik öncelikli sırayla, tembel olarak üretir.
+
+    - Gezinme bir yığındaki (ArrayDeque) çerçevelerle yapılır; her çerçeve bir müdürlüğün çocuk
+      dizisini ve sıradaki çocuğun indeksini tutar. Çalışan listesi kopyalanmaz, müdürlüklerin
+      önbelleğe alınmış getEmployees() sonucu da kullanılmaz veya oluşturulmaz; yalnızca yaprak
+      departmanların kendi listeleri okunur.
+    - tryAdvance yalnızca bir sonraki çalışana kadar iner; findFirst/limit ağacın geri kalanına
+      dokunmaz.
+    - trySplit en dıştaki çerçevenin kalan çocuklarını, alt ağaçlardaki yaprak departman sayısına
+      (önbellekteki getDepartmentCount) göre dengeli iki parçaya böler. Tek bir büyük yaprak kaldığında
+      onun listesinin spliterator'ı bölünür.
+
+Müdürlüklerin çocukları, müdürlüğe ilk inildiğinde anlık görüntü olarak alınır; gezinme sırasında
+eklenen veya çıkarılan departmanlar görülebilir ya da görülmeyebilir, ama bir departman iki kez
+üretilmez. estimateSize yaklaşıktır: kalan yaprak departman sayısı ile okunmakta olan listenin
+kalan çalışanlarının toplamıdır.
+*/
+
+final class EmployeeSpliterator implements Spliterator<String> {
+
+    private ArrayDeque<Frame> frames = new ArrayDeque<>();
+    // Okunmakta olan yaprak departmanın çalışanları.
+    private Spliterator<String> current;
+
+    EmployeeSpliterator(Composite.Department root) {
+        frames.push(new Frame(new Composite.Department[]{root}, 0, 1));
+    }
+
+    private EmployeeSpliterator(ArrayDeque<Frame> frames, Spliterator<String> current) {
+        this.frames = frames;
+        this.current = current;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        while (current == null || !current.tryAdvance(action)) {
+            Composite.Department leaf = nextLeaf();
+            if (leaf == null) {
+                current = null;
+                return false;
+            }
+            current = leaf.getEmployees().spliterator();
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+        if (current != null) {
+            current.forEachRemaining(action);
+            current = null;
+        }
+        Composite.Department leaf;
+        while ((leaf = nextLeaf()) != null) {
+            leaf.getEmployees().forEach(action);
+        }
+    }
+
+    // Sıradaki yaprak departmana kadar iner; ağaç bittiyse null döner.
+    private Composite.Department nextLeaf() {
+        Frame top;
+        while ((top = frames.peek()) != null) {
+            if (top.index == top.end) {
+                frames.pop();
+                continue;
+            }
+            Composite.Department department = top.children[top.index++];
+            if (department instanceof Composite.RegionalDirectorate) {
+                frames.push(Frame.of((Composite.RegionalDirectorate) department));
+            } else {
+                return department;
+            }
+        }
+        return null;
+    }
+
+    /*
+    Sıralı bir spliterator'da trySplit önek kısmı döndürür, kendisi sonek kısmı tutar. Geçerli
+    liste ve iç çerçeveler en dıştaki çerçevenin kalan çocuklarından önce geldiği için önek onları
+    da alır; bu spliterator en dıştaki çerçevenin ikinci yarısıyla devam eder.
+    */
+    @Override
+    public Spliterator<String> trySplit() {
+        normalize();
+        Frame outer = frames.peekLast();
+        if (outer == null) {
+            return current == null ? null : current.trySplit();
+        }
+        int split;
+        if (outer.end - outer.index == 1) {
+            // normalize sonrası tek çocuk kaldıysa önünde başka iş vardır; o iş önek olarak ayrılır.
+            split = outer.index;
+        } else {
+            long total = outer.weight();
+            long prefix = 0;
+            split = outer.index;
+            while (split < outer.end - 1 && (prefix + outer.children[split].getDepartmentCount()) * 2 <= total) {
+                prefix += outer.children[split++].getDepartmentCount();
+            }
+            // Önek boş kalmasın: ilk çocuk tek başına yarıdan büyükse önek yine de onu alır.
+            if (split == outer.index) {
+                split++;
+            }
+        }
+
+        ArrayDeque<Frame> suffix = new ArrayDeque<>();
+        suffix.push(new Frame(outer.children, split, outer.end));
+        outer.end = split;
+        EmployeeSpliterator prefixPart = new EmployeeSpliterator(frames, current);
+        frames = suffix;
+        current = null;
+        return prefixPart;
+    }
+
+    /*
+    Bölmeden önce durumu sadeleştirir: tükenmiş dış çerçeveler atılır, tükenmiş liste bırakılır ve
+    önünde iş olmayan tek bir çocuk kaldıysa o çocuğa inilir.
+    */
+    private void normalize() {
+        while (true) {
+            while (!frames.isEmpty() && frames.peekLast().index == frames.peekLast().end) {
+                frames.pollLast();
+            }
+            if (current != null && current.getExactSizeIfKnown() == 0) {
+                current = null;
+            }
+            Frame outer = frames.peekLast();
+            if (current != null || frames.size() != 1 || outer.end - outer.index != 1) {
+                return;
+            }
+            Composite.Department only = outer.children[outer.index];
+            frames.clear();
+            if (only instanceof Composite.RegionalDirectorate) {
+                frames.push(Frame.of((Composite.RegionalDirectorate) only));
+            } else {
+                current = only.getEmployees().spliterator();
+            }
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = current == null ? 0 : current.estimateSize();
+        for (Frame frame : frames) {
+            size += frame.weight();
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    private static final class Frame {
+        final Composite.Department[] children;
+        int index;
+        int end;
+
+        Frame(Composite.Department[] children, int index, int end) {
+            this.children = children;
+            this.index = index;
+            this.end = end;
+        }
+
+        static Frame of(Composite.RegionalDirectorate directorate) {
+            Composite.Department[] children = directorate.getChildDepartments().toArray(new Composite.Department[0]);
+            return new Frame(children, 0, children.length);
+        }
+
+        // Kalan çocuklardaki yaprak departman sayısı.
+        long weight() {
+            long weight = 0;
+            for (int i = index; i < end; i++) {
+                weight += children[i].getDepartmentCount();
+            }
+            return weight;
+        }
+    }
+}
+
+class EmployeeSpliteratorMain {
+    public static void main(String[] args) {
+        Composite composite = new Composite();
+        Composite.TeamDepartment istanbul = composite.new TeamDepartment("Istanbul", "Ali", "Ayse");
+        Composite.TeamDepartment ankara = composite.new TeamDepartment("Ankara", "Mehmet");
+        Composite.RegionalDirectorate turkey = composite.new RegionalDirectorate(Arrays.asList(istanbul, ankara));
+        Composite.RegionalDirectorate root = composite.new RegionalDirectorate(Arrays.asList(
+                composite.new FinanceDepartment(), turkey, composite.new SalesDepartment()));
+
+        System.out.println("sequential: " + root.streamEmployees().collect(Collectors.toList()));
+        System.out.println("parallel:   " + root.streamEmployees().parallel().collect(Collectors.toList()));
+        System.out.println("first A:    " + root.streamEmployees().filter(employee -> employee.startsWith("A")).findFirst().orElse(null));
+        List<String> firstFour = root.streamEmployees().limit(4).collect(Collectors.toList());
+        System.out.println("limit 4:    " + firstFour);
+        System.out.println("getEmployees: " + root.getEmployees());
+    }
+}
@@ -0,0 +1,191 @@
+package designpatterns.structural;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+Yüz binlerce araba ve tekneyi her tick'te güncelleyen filo motoru. Bridge'deki Vehicle/SteeringWheel
+nesneleri yerine durum ilkel dizilerde tutulur (structure of arrays):
+
+    - kinds/slots: araç id'si -> tür (araba, tekne) ve türün dizilerindeki sırası
+    - her tür için: istenen yön ve hız (move ile yazılır), uygulanan yön, hız ve toplam yol
+
+tick() her türü kendi sıkı döngüsünde işler; CarSteeringWheel yönü olduğu gibi, BoatSteeringWheel
+10 ile çarparak uygular. Büyük gruplar ForkJoinPool üzerinde parçalara bölünerek çekirdeklere dağıtılır.
+move() ve tick() aynı thread'den (ya da dışarıdan senkronize) çağrılmalıdır.
+*/
+
+final class Fleet {
+    static final byte CAR = 0;
+    static final byte BOAT = 1;
+
+    // Bir görevin tek başına işleyeceği en fazla araç sayısı; altında bölmek ek yükten ibarettir.
+    private static final int CHUNK = 16 * 1024;
+
+    // Tür sırası CAR/BOAT sabitleriyle aynıdır; ölçek SteeringWheel gerçeklemelerinin davranışıdır.
+    private final Group[] groups = {new Group(1), new Group(10)};
+    private final ForkJoinPool pool;
+    private byte[] kinds = new byte[1024];
+    private int[] slots = new int[1024];
+    private int size;
+
+    Fleet() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    Fleet(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    int addCar() {
+        return add(CAR);
+    }
+
+    int addBoat() {
+        return add(BOAT);
+    }
+
+    private int add(byte kind) {
+        if (size == kinds.length) {
+            kinds = Arrays.copyOf(kinds, size * 2);
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        kinds[size] = kind;
+        slots[size] = groups[kind].add();
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Vehicle.move karşılığı: yeni yön ve hız bir sonraki tick'te uygulanır.
+    void move(int vehicle, int direction, int speed) {
+        Group group = groups[kinds[vehicle]];
+        int slot = slots[vehicle];
+        group.commandedDirection[slot] = direction;
+        group.commandedSpeed[slot] = speed;
+    }
+
+    void tick() {
+        for (Group group : groups) {
+            if (group.size <= CHUNK) {
+                group.apply(0, group.size);
+            } else {
+                pool.invoke(new TickTask(group, 0, group.size));
+            }
+        }
+    }
+
+    byte kind(int vehicle) {
+        return kinds[vehicle];
+    }
+
+    int direction(int vehicle) {
+        return groups[kinds[vehicle]].direction[slots[vehicle]];
+    }
+
+    int speed(int vehicle) {
+        return groups[kinds[vehicle]].speed[slots[vehicle]];
+    }
+
+    long distance(int vehicle) {
+        return groups[kinds[vehicle]].distance[slots[vehicle]];
+    }
+
+    private static final class Group {
+        private final int scale;
+        private int[] commandedDirection = new int[1024];
+        private int[] commandedSpeed = new int[1024];
+        private int[] direction = new int[1024];
+        private int[] speed = new int[1024];
+        private long[] distance = new long[1024];
+        private int size;
+
+        Group(int scale) {
+            this.scale = scale;
+        }
+
+        int add() {
+            if (size == direction.length) {
+                int capacity = size * 2;
+                commandedDirection = Arrays.copyOf(commandedDirection, capacity);
+                commandedSpeed = Arrays.copyOf(commandedSpeed, capacity);
+                direction = Arrays.copyOf(direction, capacity);
+                speed = Arrays.copyOf(speed, capacity);
+                distance = Arrays.copyOf(distance, capacity);
+            }
+            return size++;
+        }
+
+        // Dallanma ve sanal çağrı olmayan döngü; JIT tarafından vektörleştirilebilir.
+        void apply(int from, int to) {
+            int[] commandedDirection = this.commandedDirection;
+            int[] commandedSpeed = this.commandedSpeed;
+            int[] direction = this.direction;
+            int[] speed = this.speed;
+            long[] distance = this.distance;
+            int scale = this.scale;
+            for (int i = from; i < to; i++) {
+                direction[i] = commandedDirection[i] * scale;
+                speed[i] = commandedSpeed[i];
+                distance[i] += commandedSpeed[i];
+            }
+        }
+    }
+
+    private static final class TickTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Group group;
+        private final int from;
+        private final int to;
+
+        TickTask(Group group, int from, int to) {
+            this.group = group;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                group.apply(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TickTask(group, from, middle), new TickTask(group, middle, to));
+        }
+    }
+}
+
+class FleetMain {
+    public static void main(String[] args) {
+        int vehicles = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int ticks = 200;
+        Fleet fleet = new Fleet();
+        for (int i = 0; i < vehicles; i++) {
+            int vehicle = i % 4 == 0 ? fleet.addBoat() : fleet.addCar();
+            fleet.move(vehicle, i % 360, 10 + i % 90);
+        }
+
+        long start = System.nanoTime();
+        for (int tick = 0; tick < ticks; tick++) {
+            fleet.tick();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format("%d vehicles x %d ticks in %.2f s (%.0f million vehicle updates/s)",
+                vehicles, ticks, seconds, (double) vehicles * ticks / seconds / 1e6));
+
+        // Bridge demo'sundaki araçlar: araba (20, 30), tekne (100, 200).
+        Fleet demo = new Fleet();
+        int car = demo.addCar();
+        int boat = demo.addBoat();
+        demo.move(car, 20, 30);
+        demo.move(boat, 100, 200);
+        demo.tick();
+        System.out.println("Car direction set to " + demo.direction(car));
+        System.out.println("Boat direction set to " + demo.direction(boat));
+    }
+}
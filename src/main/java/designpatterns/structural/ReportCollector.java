@@ -0,0 +1,183 @@
+package designpatterns.structural;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+Bir departman ağacının raporlarını fork/join ile toplar. Alt ağaçtaki departman sayısı eşiği aşan
+müdürlüklerin çocukları ayrı görevler olarak çatallanır (fork); küçük alt ağaçlar tek görevde,
+sıralı olarak tek bir map'e toplanır.
+
+    - Eşik, cutoff ile ağacın havuzdaki thread başına ~4 parçaya bölünmesini sağlayan boyuttan
+      büyük olanıdır; görevler gereğinden küçük bölünüp birleştirme maliyetini artırmaz.
+    - Ağacın tamamı eşiğin altındaysa ya da havuzun paralelliği 1 ise hiç görev oluşturulmaz;
+      toplama çağıran thread'de sıralı yapılır.
+
+    - null dönen raporlar boş map kabul edilir.
+    - Aynı anahtar birden fazla departmanda varsa ConflictRule karar verir. "İlk" ve "son", ağacın
+      derinlik öncelikli, çocuk sırasına göre gezinmesindeki sıradır; sonuç paralellikten bağımsızdır.
+    - Görev sonuçları birleştirilirken küçük map büyüğün içine eklenir, sıra bilgisi korunur.
+
+Paralel toplama, müdürlüklerin önbelleğe alınmış getReports() sonucunu kullanmaz; her çağrıda
+yaprak departmanların raporlarını okur ve kendi kuralını uygular.
+*/
+
+final class ReportCollector {
+
+    enum ConflictRule {
+        KEEP_FIRST {
+            @Override
+            String resolve(String key, String first, String second) {
+                return first;
+            }
+        },
+        KEEP_LAST {
+            @Override
+            String resolve(String key, String first, String second) {
+                return second;
+            }
+        },
+        // Değerler gezinme sırasıyla virgülle birleştirilir.
+        JOIN {
+            @Override
+            String resolve(String key, String first, String second) {
+                return first + ", " + second;
+            }
+        },
+        FAIL {
+            @Override
+            String resolve(String key, String first, String second) {
+                throw new IllegalStateException("Duplicate report '" + key + "': " + first + " / " + second);
+            }
+        };
+
+        abstract String resolve(String key, String first, String second);
+    }
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+    private final ConflictRule rule;
+
+    ReportCollector() {
+        this(ForkJoinPool.commonPool(), 1024, ConflictRule.KEEP_FIRST);
+    }
+
+    // cutoff: bu sayıda ya da daha az yaprak departmanı olan alt ağaçlar hiçbir zaman bölünmez.
+    ReportCollector(ForkJoinPool pool, int cutoff, ConflictRule rule) {
+        this.pool = pool;
+        this.cutoff = cutoff;
+        this.rule = rule;
+    }
+
+    Map<String, String> collect(Composite.Department root) {
+        int departments = root.getDepartmentCount();
+        int parallelism = pool.getParallelism();
+        int threshold = Math.max(cutoff, departments / (parallelism * 4));
+        Map<String, String> reports;
+        if (parallelism <= 1 || departments <= threshold) {
+            reports = new HashMap<>();
+            collectSequential(root, reports);
+        } else {
+            reports = pool.invoke(new CollectTask(root, threshold));
+        }
+        return Collections.unmodifiableMap(reports);
+    }
+
+    /*
+    source'u target'a ekler. targetFirst, çakışmada target'taki değerin gezinme sırasında önce
+    gelip gelmediğini belirtir; böylece küçük map büyüğün içine eklenirken de kural doğru uygulanır.
+    */
+    static void merge(Map<String, String> target, Map<String, String> source, boolean targetFirst, ConflictRule rule) {
+        if (source == null) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : source.entrySet()) {
+            String key = entry.getKey();
+            String value = entry.getValue();
+            if (!target.containsKey(key)) {
+                target.put(key, value);
+            } else {
+                String existing = target.get(key);
+                target.put(key, targetFirst ? rule.resolve(key, existing, value) : rule.resolve(key, value, existing));
+            }
+        }
+    }
+
+    private void collectSequential(Composite.Department department, Map<String, String> into) {
+        if (department instanceof Composite.RegionalDirectorate) {
+            for (Composite.Department child : ((Composite.RegionalDirectorate) department).getChildDepartments()) {
+                collectSequential(child, into);
+            }
+        } else {
+            merge(into, department.getReports(), true, rule);
+        }
+    }
+
+    private final class CollectTask extends RecursiveTask<Map<String, String>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Composite.Department department;
+        private final int threshold;
+
+        CollectTask(Composite.Department department, int threshold) {
+            this.department = department;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Map<String, String> compute() {
+            if (!(department instanceof Composite.RegionalDirectorate) || department.getDepartmentCount() <= threshold) {
+                Map<String, String> reports = new HashMap<>();
+                collectSequential(department, reports);
+                return reports;
+            }
+
+            List<CollectTask> tasks = new ArrayList<>();
+            for (Composite.Department child : ((Composite.RegionalDirectorate) department).getChildDepartments()) {
+                tasks.add(new CollectTask(child, threshold));
+            }
+            invokeAll(tasks);
+
+            // Sonuçlar çocuk sırasıyla birleştirilir; her adımda küçük map büyüğe eklenir.
+            Map<String, String> result = new HashMap<>();
+            for (CollectTask task : tasks) {
+                Map<String, String> next = task.join();
+                if (result.size() >= next.size()) {
+                    merge(result, next, true, rule);
+                } else {
+                    merge(next, result, false, rule);
+                    result = next;
+                }
+            }
+            return result;
+        }
+    }
+}
+
+class ReportCollectorMain {
+    public static void main(String[] args) {
+        Composite composite = new Composite();
+        Composite.TeamDepartment istanbul = composite.new TeamDepartment("Istanbul");
+        istanbul.report("sales", "Istanbul sales");
+        istanbul.report("budget", "Istanbul budget");
+        Composite.TeamDepartment ankara = composite.new TeamDepartment("Ankara");
+        ankara.report("sales", "Ankara sales");
+        Composite.RegionalDirectorate root = composite.new RegionalDirectorate(Arrays.asList(
+                composite.new FinanceDepartment(), istanbul, composite.new SalesDepartment(), ankara));
+
+        for (ReportCollector.ConflictRule rule : ReportCollector.ConflictRule.values()) {
+            try {
+                System.out.println(rule + ": " + new ReportCollector(ForkJoinPool.commonPool(), 1, rule).collect(root));
+            } catch (IllegalStateException e) {
+                System.out.println(rule + ": " + e.getMessage());
+            }
+        }
+        System.out.println("getReports: " + root.getReports());
+    }
+}
@@ -0,0 +1,200 @@
+package designpatterns.structural;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Birçok üretici thread'den gelen yön komutlarını toplayıp Fleet'e sabit aralıklarla (tick) uygulayan
+zamanlayıcı.
+
+    - Her aracın bekleyen komutu (yön ve hız) tek bir long olarak AtomicLongArray'de tutulur;
+      aynı araç için tick'ten önce gelen yeni komut eskisinin üzerine yazar (son yazan kazanır).
+    - Komutu bekleyen araçlar bir bitset'te işaretlenir; tick yalnızca işaretli kelimeleri
+      getAndSet(0) ile alır ve araçları sırayla uygular. Üreticiler hiçbir zaman kilit beklemez.
+    - Fleet yalnızca tick thread'inden kullanılır. Araçlar zamanlayıcı oluşturulmadan önce eklenmelidir.
+
+Metrikler: tick süresi, periyodu aşan (overrun) tick sayısı, tick başındaki kuyruk derinliği
+(komut bekleyen araç sayısı), üzerine yazılarak düşürülen komut sayısı ve hata veren tick sayısı
+ile son hata.
+*/
+
+final class TickScheduler implements AutoCloseable {
+    private final Fleet fleet;
+    private final long periodNanos;
+    private final AtomicLongArray pending;
+    private final AtomicLongArray dirty;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder superseded = new LongAdder();
+    private volatile long ticks;
+    private volatile long overruns;
+    private volatile long failedTicks;
+    private volatile Throwable lastFailure;
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile int lastQueueDepth;
+    private volatile int maxQueueDepth;
+
+    TickScheduler(Fleet fleet, long period, TimeUnit unit) {
+        this.fleet = fleet;
+        this.periodNanos = unit.toNanos(period);
+        this.pending = new AtomicLongArray(fleet.size());
+        this.dirty = new AtomicLongArray((fleet.size() + 63) >>> 6);
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "fleet-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    TickScheduler start() {
+        executor.scheduleAtFixedRate(this::runTick, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    // Herhangi bir thread'den çağrılabilir; komut bir sonraki tick'te uygulanır.
+    void steer(int vehicle, int direction, int speed) {
+        pending.set(vehicle, ((long) direction << 32) | (speed & 0xffffffffL));
+        received.increment();
+        int word = vehicle >>> 6;
+        long bit = 1L << vehicle;
+        long current;
+        do {
+            current = dirty.get(word);
+            if ((current & bit) != 0) {
+                // Bu tick için bekleyen komut zaten vardı ve az önce üzerine yazıldı.
+                superseded.increment();
+                return;
+            }
+        } while (!dirty.compareAndSet(word, current, current | bit));
+        queueDepth.incrementAndGet();
+    }
+
+    private void runTick() {
+        long start = System.nanoTime();
+        try {
+            int depth = queueDepth.get();
+            lastQueueDepth = depth;
+            if (depth > maxQueueDepth) {
+                maxQueueDepth = depth;
+            }
+            for (int word = 0; word < dirty.length(); word++) {
+                if (dirty.get(word) == 0) {
+                    continue;
+                }
+                long bits = dirty.getAndSet(word, 0);
+                queueDepth.addAndGet(-Long.bitCount(bits));
+                // Bit temizlendikten sonra okunan komut en az biti koyan komut kadar yenidir.
+                while (bits != 0) {
+                    int vehicle = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    long command = pending.get(vehicle);
+                    fleet.move(vehicle, (int) (command >> 32), (int) command);
+                    bits &= bits - 1;
+                }
+            }
+            fleet.tick();
+        } catch (Throwable e) {
+            // Kaçan her hata (Error dahil) scheduleAtFixedRate'i sessizce durdurur; hata metriklere
+            // kaydedilip bir sonraki tick beklenir.
+            failedTicks++;
+            lastFailure = e;
+            System.err.println("Tick failed: " + e);
+        } finally {
+            long duration = System.nanoTime() - start;
+            lastTickNanos = duration;
+            if (duration > maxTickNanos) {
+                maxTickNanos = duration;
+            }
+            if (duration > periodNanos) {
+                overruns++;
+            }
+            ticks++;
+        }
+    }
+
+    long ticks() {
+        return ticks;
+    }
+
+    long overruns() {
+        return overruns;
+    }
+
+    long failedTicks() {
+        return failedTicks;
+    }
+
+    Throwable lastFailure() {
+        return lastFailure;
+    }
+
+    int queueDepth() {
+        return queueDepth.get();
+    }
+
+    String report() {
+        return String.format("%d ticks (period %.1f ms), %d overruns, tick last %.2f ms / max %.2f ms, "
+                        + "queue depth last %d / max %d, %d commands received, %d superseded, %d failed ticks",
+                ticks, periodNanos / 1e6, overruns, lastTickNanos / 1e6, maxTickNanos / 1e6,
+                lastQueueDepth, maxQueueDepth, received.sum(), superseded.sum(), failedTicks);
+    }
+
+    /*
+    Tick'leri durdurur; dönüşten sonra Fleet çağıran thread'den güvenle okunabilir. Beklerken kesilirse
+    (interrupt) zamanlayıcıyı hemen durdurur ve kesme bayrağını yeniden kurar; bu durumda son tick
+    hâlâ çalışıyor olabilir.
+    */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
+
+class TickSchedulerMain {
+    public static void main(String[] args) throws InterruptedException {
+        int vehicles = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int producers = 4;
+        Fleet fleet = new Fleet();
+        for (int i = 0; i < vehicles; i++) {
+            if (i % 4 == 0) {
+                fleet.addBoat();
+            } else {
+                fleet.addCar();
+            }
+        }
+
+        TickScheduler scheduler = new TickScheduler(fleet, 20, TimeUnit.MILLISECONDS).start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    scheduler.steer(random.nextInt(vehicles), random.nextInt(360), random.nextInt(100));
+                }
+            }, "producer-" + p);
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Thread.sleep(50);
+        scheduler.close();
+
+        System.out.println(scheduler.report());
+        System.out.println("Vehicle 0 direction " + fleet.direction(0) + ", distance " + fleet.distance(0));
+    }
+}
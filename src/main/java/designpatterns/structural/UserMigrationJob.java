@@ -0,0 +1,285 @@
+package designpatterns.structural;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/*
+Tüm LegacyUser kayıtlarını yeni User modeline taşıyan toplu iş. Dönüşüm adapter'ın eşleme mantığını
+(Adapter.fromLegacy) kullanır.
+
+    - Eski id'ler batchSize'lık gruplar halinde okunur; her grup eski servisten tek bir toplu
+      çağrıyla alınır ve eşlenir. Aynı anda en fazla 'parallelism' grup işlenir.
+    - Sonuçlar sırayla, yalnızca sona eklenen (append-only) bir dosyaya yazılır; her satır
+      id<TAB>username<TAB>name<TAB>lastname biçimindedir. Alanlardaki ters bölü, sekme ve satır
+      sonları \\, \t, \n, \r olarak kaçırılır; null alanlar boş yazılır.
+    - Her turdan sonra dosya diske zorlanır ve checkpoint dosyası atomik olarak yenilenir:
+      tüketilen id sayısı ve dosyanın geçerli uzunluğu.
+
+Çökme sonrası aynı çıktı dosyası ve aynı id akışı ile yeniden çalıştırıldığında, checkpoint'ten
+sonra yazılmış yarım veriler kesilip atılır ve kalan id'lerden devam edilir; hiçbir kullanıcı iki kez
+yazılmaz. Eski serviste bulunamayan id'ler atlanır ve sayılır.
+*/
+
+final class UserMigrationJob {
+    private final Adapter adapter;
+    private final Adapter.LegacyUserService legacyUserService;
+    private final Path output;
+    private final Path checkpoint;
+    private final int batchSize;
+    private final int parallelism;
+
+    private long migrated;
+    private long missing;
+    private long resumedFrom;
+    private double seconds;
+
+    UserMigrationJob(Adapter adapter, Adapter.LegacyUserService legacyUserService, Path output,
+                     int batchSize, int parallelism) {
+        this.adapter = adapter;
+        this.legacyUserService = legacyUserService;
+        this.output = output;
+        this.checkpoint = output.resolveSibling(output.getFileName() + ".checkpoint");
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    // Taşımayı çalıştırır. Bu çalıştırmada yazılan kullanıcı sayısını döndürür.
+    long run(IntStream legacyIds) throws IOException {
+        Properties state = readCheckpoint();
+        long consumed = Long.parseLong(state.getProperty("ids", "0"));
+        long validBytes = Long.parseLong(state.getProperty("bytes", "0"));
+        resumedFrom = consumed;
+        migrated = 0;
+        missing = 0;
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        long start = System.nanoTime();
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Son checkpoint'ten sonra yazılmış (commit edilmemiş) baytlar atılır.
+            out.truncate(validBytes);
+            out.position(validBytes);
+
+            PrimitiveIterator.OfInt ids = legacyIds.skip(consumed).iterator();
+            while (ids.hasNext()) {
+                List<Future<Batch>> round = new ArrayList<>(parallelism);
+                for (int i = 0; i < parallelism && ids.hasNext(); i++) {
+                    int[] batch = nextBatch(ids);
+                    round.add(workers.submit(() -> convert(batch)));
+                }
+                for (Future<Batch> future : round) {
+                    Batch batch = await(future);
+                    ByteBuffer bytes = ByteBuffer.wrap(batch.bytes);
+                    while (bytes.hasRemaining()) {
+                        out.write(bytes);
+                    }
+                    consumed += batch.ids;
+                    migrated += batch.users;
+                    missing += batch.ids - batch.users;
+                }
+                out.force(false);
+                writeCheckpoint(consumed, out.position());
+            }
+        } finally {
+            workers.shutdownNow();
+            seconds = (System.nanoTime() - start) / 1e9;
+        }
+        return migrated;
+    }
+
+    private int[] nextBatch(PrimitiveIterator.OfInt ids) {
+        int[] batch = new int[batchSize];
+        int count = 0;
+        while (count < batchSize && ids.hasNext()) {
+            batch[count++] = ids.nextInt();
+        }
+        return count == batchSize ? batch : Arrays.copyOf(batch, count);
+    }
+
+    private Batch convert(int[] ids) {
+        Adapter.LegacyUser[] legacyUsers = legacyUserService.getUsers(ids);
+        StringBuilder lines = new StringBuilder(ids.length * 48);
+        int users = 0;
+        for (Adapter.LegacyUser legacyUser : legacyUsers) {
+            if (legacyUser == null) {
+                continue;
+            }
+            Adapter.User user = adapter.fromLegacy(legacyUser);
+            lines.append(user.id).append('\t');
+            appendField(lines, user.username).append('\t');
+            appendField(lines, user.name).append('\t');
+            appendField(lines, user.lastname).append('\n');
+            users++;
+        }
+        return new Batch(ids.length, users, lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Alan ve satır sınırlarını bozabilecek karakterler kaçırılır; null boş alan olarak yazılır.
+    private static StringBuilder appendField(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                default:
+                    line.append(c);
+            }
+        }
+        return line;
+    }
+
+    private static Batch await(Future<Batch> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Migration interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Migration batch failed", e.getCause());
+        }
+    }
+
+    private Properties readCheckpoint() throws IOException {
+        Properties state = new Properties();
+        if (Files.exists(checkpoint)) {
+            try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+                state.load(reader);
+            }
+        }
+        return state;
+    }
+
+    /*
+    Checkpoint geçici bir dosyaya yazılıp diske zorlanır, sonra taşınır; çökme anında yarım ya da
+    içeriği diske ulaşmamış bir checkpoint oluşmaz.
+    */
+    private void writeCheckpoint(long consumedIds, long bytes) throws IOException {
+        Properties state = new Properties();
+        state.setProperty("ids", Long.toString(consumedIds));
+        state.setProperty("bytes", Long.toString(bytes));
+        StringWriter text = new StringWriter();
+        state.store(text, null);
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer content = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    long migrated() {
+        return migrated;
+    }
+
+    long missing() {
+        return missing;
+    }
+
+    long resumedFrom() {
+        return resumedFrom;
+    }
+
+    String report() {
+        return String.format("%d users migrated, %d missing, resumed after %d ids, %.2f s (%.0f users/s)",
+                migrated, missing, resumedFrom, seconds, (migrated + missing) / Math.max(seconds, 1e-9));
+    }
+
+    private static final class Batch {
+        final int ids;
+        final int users;
+        final byte[] bytes;
+
+        Batch(int ids, int users, byte[] bytes) {
+            this.ids = ids;
+            this.users = users;
+            this.bytes = bytes;
+        }
+    }
+}
+
+class UserMigrationJobMain {
+    public static void main(String[] args) throws IOException {
+        int users = 20_000;
+        int batchSize = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        Adapter adapter = new Adapter();
+        // Her toplu çağrı 5 ms sürer; her 100. id eski sistemde yoktur. Bazı kayıtların isminde sekme ve
+        // satır sonu vardır, soyadı boştur (null).
+        Adapter.InMemoryLegacyUserService legacy = adapter.new InMemoryLegacyUserService(5);
+        for (int id = 1; id <= users; id++) {
+            if (id % 100 != 0) {
+                Adapter.LegacyUser legacyUser = adapter.new LegacyUser();
+                legacyUser.id = id;
+                legacyUser.username = "user" + id;
+                legacyUser.name = id % 1000 == 1 ? "Name\t" + id + "\nSecond line" : "Name" + id;
+                legacyUser.lastname = id % 1000 == 1 ? null : "Lastname" + id;
+                legacy.add(legacyUser);
+            }
+        }
+
+        Path directory = Files.createTempDirectory("migration");
+        Path output = directory.resolve("users.tsv");
+        try {
+            // İlk çalıştırma 12.000. id'de çöker.
+            UserMigrationJob job = new UserMigrationJob(adapter, legacy, output, batchSize, parallelism);
+            try {
+                job.run(IntStream.rangeClosed(1, users).peek(id -> {
+                    if (id == 12_000) {
+                        throw new IllegalStateException("Simulated crash at id " + id);
+                    }
+                }));
+            } catch (IllegalStateException e) {
+                System.out.println(e.getMessage() + ": " + job.report());
+            }
+
+            job = new UserMigrationJob(adapter, legacy, output, batchSize, parallelism);
+            job.run(IntStream.rangeClosed(1, users));
+            System.out.println("Resumed: " + job.report());
+            try (Stream<String> lines = Files.lines(output); Stream<String> ids = Files.lines(output)) {
+                System.out.println("Lines in output: " + lines.count()
+                        + ", distinct ids: " + ids.map(line -> line.substring(0, line.indexOf('\t'))).distinct().count());
+            }
+        } finally {
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(output.resolveSibling("users.tsv.checkpoint"));
+            Files.delete(directory);
+        }
+    }
+}